@@ -0,0 +1,117 @@
+package com.bobobode.cs;
+
+/**
+ * {@link NodePool} keeps released {@link Node} objects and hands them out again instead of allocating new ones. It is
+ * useful for chains that are built and discarded at a high rate, since reused nodes do not put pressure on the garbage
+ * collector. Released nodes are linked to each other through their next references, so the pool itself does not
+ * allocate any memory.
+ * <p>
+ * A released node must not be used anymore, since it can be handed out again. The pool is not thread-safe, so each
+ * thread should use its own pool.
+ *
+ * @param <T> a generic type T
+ */
+public class NodePool<T> {
+    private final int maxSize;
+    private Node<T> free;
+    private int size;
+
+    /**
+     * Creates a pool that keeps up to maxSize released nodes, nodes released above this limit are left to the garbage
+     * collector.
+     *
+     * @param maxSize max number of nodes kept in the pool
+     * @throws IllegalArgumentException if maxSize is negative
+     */
+    public NodePool(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Max size must not be negative");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns a node that holds provided element and does not reference any other node. The node is taken from
+     * the pool, or is created if the pool is empty.
+     *
+     * @param element any element of type T
+     * @return a node with provided element
+     */
+    public Node<T> acquire(T element) {
+        if (free == null) {
+            return new Node<>(element);
+        }
+        Node<T> node = free;
+        free = node.next;
+        size--;
+        node.element = element;
+        node.next = null;
+        return node;
+    }
+
+    /**
+     * Creates a linked chain of nodes taken from the pool, see {@link Nodes#chainOf(Object[])}.
+     *
+     * @param elements a array of elements of type T
+     * @return a reference to the first element of the chain
+     */
+    public Node<T> chainOf(T... elements) {
+        Node<T> firstNode = acquire(elements[0]);
+        Node<T> current = firstNode;
+        for (int i = 1; i < elements.length; i++) {
+            current.next = acquire(elements[i]);
+            current = current.next;
+        }
+        return firstNode;
+    }
+
+    /**
+     * Returns a single node to the pool. The next reference of the node is ignored.
+     *
+     * @param node a node that is not used anymore
+     */
+    public void release(Node<T> node) {
+        node.element = null;
+        if (size < maxSize) {
+            node.next = free;
+            free = node;
+            size++;
+        } else {
+            node.next = null;
+        }
+    }
+
+    /**
+     * Returns all nodes of a chain to the pool. If the chain is circular, each of its nodes is released once.
+     *
+     * @param head the first node of a chain
+     */
+    public void releaseChain(Node<T> head) {
+        int nodeCount = Nodes.findCycle(head)
+                .map(cycle -> distance(head, cycle.start()) + cycle.length())
+                .orElse(Integer.MAX_VALUE);
+        Node<T> current = head;
+        for (int i = 0; i < nodeCount && current != null; i++) {
+            Node<T> next = current.next;
+            release(current);
+            current = next;
+        }
+    }
+
+    private static <T> int distance(Node<T> from, Node<T> to) {
+        int distance = 0;
+        for (Node<T> current = from; current != to; current = current.next) {
+            distance++;
+        }
+        return distance;
+    }
+
+    /**
+     * Returns the number of nodes kept in the pool
+     *
+     * @return number of pooled nodes
+     */
+    public int size() {
+        return size;
+    }
+}
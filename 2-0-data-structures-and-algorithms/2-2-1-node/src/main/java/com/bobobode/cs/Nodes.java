@@ -1,5 +1,8 @@
 package com.bobobode.cs;
 
+import java.util.Objects;
+import java.util.Optional;
+
 /**
  * A class that consists of static methods only and provides util methods for {@link Node}.
  */
@@ -99,4 +102,131 @@ public class Nodes {
         current.next = firstNode;
         return firstNode;
     }
+
+    /**
+     * A cycle of a chain of {@link Node} objects, that is described by its first node and the number of nodes in it.
+     *
+     * @param <T> generic type T
+     */
+    public static final class Cycle<T> {
+        private final Node<T> start;
+        private final int length;
+
+        private Cycle(Node<T> start, int length) {
+            this.start = start;
+            this.length = length;
+        }
+
+        /**
+         * @return the first node of the chain that belongs to the cycle
+         */
+        public Node<T> start() {
+            return start;
+        }
+
+        /**
+         * @return the number of nodes in the cycle
+         */
+        public int length() {
+            return length;
+        }
+    }
+
+    /**
+     * Checks if a chain of {@link Node} objects is circular, i.e. following next references from the head gets back to
+     * one of the visited nodes. It uses Brent's algorithm, which takes linear time O(n) and constant memory O(1): a hare
+     * moves one node at a time, and a tortoise jumps to the hare every time the number of steps reaches a power of two.
+     * When they meet, the number of steps since the last jump is the cycle length. Then two pointers, one of them
+     * ahead by the cycle length, move together from the head and meet at the start of the cycle.
+     *
+     * @param head the first node of a chain
+     * @param <T>  generic type T
+     * @return a cycle of the chain, or an empty optional if the chain ends with null
+     */
+    public static <T> Optional<Cycle<T>> findCycle(Node<T> head) {
+        if (head == null) {
+            return Optional.empty();
+        }
+        Node<T> tortoise = head;
+        Node<T> hare = head.next;
+        int power = 1;
+        int length = 1;
+        while (hare != tortoise) {
+            if (hare == null) {
+                return Optional.empty();
+            }
+            if (length == power) {
+                tortoise = hare;
+                power *= 2;
+                length = 0;
+            }
+            hare = hare.next;
+            length++;
+        }
+        Node<T> behind = head;
+        Node<T> ahead = head;
+        for (int i = 0; i < length; i++) {
+            ahead = ahead.next;
+        }
+        while (behind != ahead) {
+            behind = behind.next;
+            ahead = ahead.next;
+        }
+        return Optional.of(new Cycle<>(behind, length));
+    }
+
+    /**
+     * Reverses a chain of {@link Node} objects in place, so each node references the node that was previous to it.
+     * It takes linear time O(n) and does not create new nodes.
+     *
+     * @param head the first node of a chain
+     * @param <T>  generic type T
+     * @return the first node of the reversed chain, which was the last node of the original chain
+     * @throws IllegalArgumentException if the chain is circular
+     */
+    public static <T> Node<T> reverse(Node<T> head) {
+        checkNotCircular(head);
+        Node<T> previous = null;
+        Node<T> current = head;
+        while (current != null) {
+            Node<T> next = current.next;
+            current.next = previous;
+            previous = current;
+            current = next;
+        }
+        return previous;
+    }
+
+    /**
+     * Inserts a whole chain of {@link Node} objects right after the target node, so the last node of the chain
+     * references the node that used to follow the target. It takes time proportional to the length of the inserted
+     * chain, and does not depend on the length of the target chain.
+     *
+     * @param target a node to insert the chain after
+     * @param chain  the first node of a chain to insert
+     * @param <T>    generic type T
+     * @throws NullPointerException     if the target or the chain is null
+     * @throws IllegalArgumentException if the inserted chain is circular or contains the target, since splicing it
+     *                                  would make a circle
+     */
+    public static <T> void splice(Node<T> target, Node<T> chain) {
+        Objects.requireNonNull(target);
+        Objects.requireNonNull(chain);
+        checkNotCircular(chain);
+        Node<T> last = chain;
+        while (last != target && last.next != null) {
+            last = last.next;
+        }
+        if (last == target) {
+            throw new IllegalArgumentException("Chain contains the target node");
+        }
+        last.next = target.next;
+        target.next = chain;
+    }
+
+    private static <T> void checkNotCircular(Node<T> head) {
+        if (findCycle(head).isPresent()) {
+            throw new IllegalArgumentException("Chain is circular");
+        }
+    }
 }
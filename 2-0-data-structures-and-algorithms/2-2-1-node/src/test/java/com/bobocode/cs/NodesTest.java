@@ -1,6 +1,7 @@
 package com.bobocode.cs;
 
 import com.bobobode.cs.Node;
+import com.bobobode.cs.NodePool;
 import com.bobobode.cs.Nodes;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.MethodOrderer;
@@ -10,9 +11,13 @@ import org.junit.jupiter.api.TestMethodOrder;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class NodesTest {
@@ -110,6 +115,166 @@ class NodesTest {
         assertThat(getNodeNext(fourthNode)).isEqualTo(firstNode);
     }
 
+    @Test
+    @Order(7)
+    void findCycleInChain() {
+        Node<Integer> chain = Nodes.chainOf(1, 2, 3, 4);
+
+        assertThat(Nodes.findCycle(chain)).isEmpty();
+        assertThat(Nodes.findCycle(Nodes.create(1))).isEmpty();
+        assertThat(Nodes.findCycle(null)).isEmpty();
+    }
+
+    @Test
+    @Order(8)
+    void findCycleInCircle() {
+        Node<Integer> circle = Nodes.circleOf(1, 2, 3, 4, 5);
+
+        Optional<Nodes.Cycle<Integer>> cycle = Nodes.findCycle(circle);
+
+        assertThat(cycle).isPresent();
+        assertThat(cycle.get().start()).isSameAs(circle);
+        assertThat(cycle.get().length()).isEqualTo(5);
+    }
+
+    @Test
+    @Order(9)
+    void findCycleThatStartsInTheMiddle() {
+        for (int prefix = 0; prefix < 20; prefix++) {
+            for (int length = 1; length < 20; length++) {
+                Node<Integer> head = Nodes.chainOf(range(prefix + length));
+                Node<Integer> start = nodeAt(head, prefix);
+                setNodeNext(nodeAt(head, prefix + length - 1), start);
+
+                Optional<Nodes.Cycle<Integer>> cycle = Nodes.findCycle(head);
+
+                assertThat(cycle).isPresent();
+                assertThat(cycle.get().start()).isSameAs(start);
+                assertThat(cycle.get().length()).isEqualTo(length);
+            }
+        }
+    }
+
+    @Test
+    @Order(10)
+    void reverse() {
+        Node<Integer> chain = Nodes.chainOf(1, 2, 3, 4);
+
+        Node<Integer> reversed = Nodes.reverse(chain);
+
+        assertThat(elementsOf(reversed)).containsExactly(4, 3, 2, 1);
+        assertThat(getNodeNext(chain)).isNull();
+    }
+
+    @Test
+    @Order(11)
+    void reverseCircle() {
+        Node<Integer> circle = Nodes.circleOf(1, 2, 3);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> Nodes.reverse(circle));
+    }
+
+    @Test
+    @Order(12)
+    void splice() {
+        Node<Integer> chain = Nodes.chainOf(1, 2, 5);
+        Node<Integer> inserted = Nodes.chainOf(3, 4);
+
+        Nodes.splice(getNodeNext(chain), inserted);
+
+        assertThat(elementsOf(chain)).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @Order(13)
+    void spliceNullChain() {
+        Node<Integer> chain = Nodes.chainOf(1, 2);
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> Nodes.splice(chain, null));
+        assertThat(elementsOf(chain)).containsExactly(1, 2);
+    }
+
+    @Test
+    @Order(14)
+    void spliceChainThatContainsTarget() {
+        Node<Integer> chain = Nodes.chainOf(1, 2, 3);
+        Node<Integer> target = getNodeNext(chain);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> Nodes.splice(target, chain));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> Nodes.splice(target, target));
+        assertThat(elementsOf(chain)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @Order(15)
+    void nodePoolReusesReleasedNodes() {
+        NodePool<Integer> pool = new NodePool<>(10);
+        Node<Integer> chain = pool.chainOf(1, 2, 3);
+        Node<Integer> lastNode = getNodeNext(getNodeNext(chain));
+
+        pool.releaseChain(chain);
+        assertThat(pool.size()).isEqualTo(3);
+
+        Node<Integer> reused = pool.acquire(7);
+        assertThat(reused).isSameAs(lastNode);
+        assertThat(getNodeElement(reused)).isEqualTo(7);
+        assertThat(getNodeNext(reused)).isNull();
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(16)
+    void nodePoolDoesNotGrowAboveMaxSize() {
+        NodePool<Integer> pool = new NodePool<>(2);
+
+        pool.releaseChain(Nodes.chainOf(1, 2, 3, 4));
+
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(17)
+    void nodePoolReleasesEachNodeOfCircleOnce() {
+        NodePool<Integer> pool = new NodePool<>(10);
+        Node<Integer> head = Nodes.chainOf(1, 2, 3, 4);
+        setNodeNext(nodeAt(head, 3), nodeAt(head, 1));
+
+        pool.releaseChain(head);
+
+        assertThat(pool.size()).isEqualTo(4);
+        List<Node<Integer>> acquired = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            acquired.add(pool.acquire(i));
+        }
+        assertThat(acquired).doesNotHaveDuplicates();
+    }
+
+    private Integer[] range(int size) {
+        Integer[] elements = new Integer[size];
+        Arrays.setAll(elements, i -> i);
+        return elements;
+    }
+
+    private Node<Integer> nodeAt(Node<Integer> head, int index) {
+        Node<Integer> node = head;
+        for (int i = 0; i < index; i++) {
+            node = getNodeNext(node);
+        }
+        return node;
+    }
+
+    private List<Integer> elementsOf(Node<Integer> head) {
+        List<Integer> elements = new ArrayList<>();
+        for (Node<Integer> node = head; node != null; node = getNodeNext(node)) {
+            elements.add(getNodeElement(node));
+        }
+        return elements;
+    }
+
     @SneakyThrows
     @SuppressWarnings("unchecked")
     private Node<Integer> createNodeOf(int element) {
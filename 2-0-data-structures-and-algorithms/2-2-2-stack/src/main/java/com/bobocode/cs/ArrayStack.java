@@ -0,0 +1,159 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * {@link ArrayStack} represents a last-in-first-out (LIFO) stack of objects that is based on an array. Unlike
+ * {@link LinkedStack}, it does not create a node per element, so once the array is big enough, push and pop
+ * operations do not allocate any memory.
+ *
+ * @param <T> generic type parameter
+ */
+public class ArrayStack<T> implements Stack<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] elements;
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link ArrayStack} with a specific capacity of an array inside.
+     *
+     * @param initCapacity - the initial capacity of the stack
+     * @throws IllegalArgumentException – if the specified initial capacity is negative, 0 or greater than 2^30.
+     */
+    public ArrayStack(int initCapacity) {
+        if (initCapacity <= 0 || initCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        elements = new Object[initCapacity];
+    }
+
+    /**
+     * This constructor creates an instance of {@link ArrayStack} with a default capacity of an array inside.
+     */
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * This method creates a stack of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    public static <T> ArrayStack<T> of(T... elements) {
+        ArrayStack<T> arrayStack = new ArrayStack<>(Math.max(elements.length, 1));
+        Stream.of(elements).forEach(arrayStack::push);
+        return arrayStack;
+    }
+
+    /**
+     * The method pushes an element onto the top of this stack. The array is doubled when it is full, but it never
+     * grows beyond 2^30 elements.
+     *
+     * @param element elements to add
+     * @throws NullPointerException  if the element is null
+     * @throws IllegalStateException if the stack already holds 2^30 elements
+     */
+    @Override
+    public void push(T element) {
+        Objects.requireNonNull(element);
+        if (size == elements.length) {
+            grow();
+        }
+        elements[size++] = element;
+    }
+
+    private void grow() {
+        if (elements.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Stack is full");
+        }
+        elements = Arrays.copyOf(elements, (int) Math.min(elements.length * 2L, MAX_CAPACITY));
+    }
+
+    /**
+     * This method removes the object at the top of this stack
+     * and returns that object as the value of this function.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        T element = (T) elements[--size];
+        elements[size] = null;
+        return element;
+    }
+
+    /**
+     * Returns the object at the top of this stack without removing it.
+     *
+     * @return The object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+        return (T) elements[size - 1];
+    }
+
+    /**
+     * Removes all elements from this stack and adds them to the given collection in the order they would be popped,
+     * starting from the top.
+     *
+     * @param collection the collection to transfer elements into
+     * @return the number of elements transferred
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(Collection<? super T> collection) {
+        Objects.requireNonNull(collection);
+        int drained = size;
+        for (int i = size - 1; i >= 0; i--) {
+            collection.add((T) elements[i]);
+            elements[i] = null;
+        }
+        size = 0;
+        return drained;
+    }
+
+    /**
+     * Removes all elements from this stack. The array is kept, so the stack can be refilled without new allocations.
+     */
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Returns the number of elements in the stack
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
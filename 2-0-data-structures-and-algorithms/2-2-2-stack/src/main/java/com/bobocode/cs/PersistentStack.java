@@ -0,0 +1,147 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link PersistentStack} is an immutable last-in-first-out (LIFO) stack. Instead of changing the stack,
+ * {@link PersistentStack#push(Object)} and {@link PersistentStack#pop()} return a new version, and the old version stays
+ * valid. A new version shares all the nodes of the previous one, so push and pop take constant time O(1) and allocate
+ * at most one node.
+ * <p>
+ * Since a version never changes, it can be read by any number of threads without locks. A writer publishes a new
+ * version through a single reference, e.g.
+ * <pre>{@code
+ * AtomicReference<PersistentStack<String>> current = new AtomicReference<>(PersistentStack.empty());
+ * current.updateAndGet(stack -> stack.push("element")); // writers
+ * PersistentStack<String> snapshot = current.get();      // readers
+ * }</pre>
+ *
+ * @param <T> generic type parameter
+ */
+public final class PersistentStack<T> implements Iterable<T> {
+    private static final PersistentStack<?> EMPTY = new PersistentStack<>(null, null, 0);
+
+    private final T element;
+    private final PersistentStack<T> next;
+    private final int size;
+
+    private PersistentStack(T element, PersistentStack<T> next, int size) {
+        this.element = element;
+        this.next = next;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty stack
+     *
+     * @param <T> generic type
+     * @return an empty stack
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentStack<T> empty() {
+        return (PersistentStack<T>) EMPTY;
+    }
+
+    /**
+     * This method creates a stack of provided elements, the last element is on the top
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new stack of elements that were passed as method parameters
+     */
+    public static <T> PersistentStack<T> of(T... elements) {
+        PersistentStack<T> stack = empty();
+        for (T element : elements) {
+            stack = stack.push(element);
+        }
+        return stack;
+    }
+
+    /**
+     * Returns a new version of the stack with the element on the top. This version is not changed.
+     *
+     * @param element element to add
+     * @return a new stack
+     */
+    public PersistentStack<T> push(T element) {
+        Objects.requireNonNull(element);
+        return new PersistentStack<>(element, this, size + 1);
+    }
+
+    /**
+     * Returns the object at the top of this stack
+     *
+     * @return the object at the top of this stack
+     * @throws EmptyStackException - if this stack is empty
+     */
+    public T peek() {
+        checkElementsExist();
+        return element;
+    }
+
+    /**
+     * Returns a new version of the stack without the top element. This version is not changed.
+     *
+     * @return a stack of all elements except the top one
+     * @throws EmptyStackException - if this stack is empty
+     */
+    public PersistentStack<T> pop() {
+        checkElementsExist();
+        return next;
+    }
+
+    private void checkElementsExist() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+    }
+
+    /**
+     * Returns the number of elements in the stack
+     *
+     * @return number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if a stack is empty
+     *
+     * @return {@code true} if a stack is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns an iterator over the stack elements from the top to the bottom
+     *
+     * @return an iterator over the stack elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private PersistentStack<T> current = PersistentStack.this;
+
+            @Override
+            public boolean hasNext() {
+                return current.size > 0;
+            }
+
+            @Override
+            public T next() {
+                if (current.size == 0) {
+                    throw new NoSuchElementException();
+                }
+                T next = current.element;
+                current = current.next;
+                return next;
+            }
+        };
+    }
+}
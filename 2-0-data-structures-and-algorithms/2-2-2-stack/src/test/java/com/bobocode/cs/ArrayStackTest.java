@@ -0,0 +1,96 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ArrayStackTest {
+
+    private ArrayStack<Integer> intStack = new ArrayStack<>(2);
+
+    @Test
+    void pushAndPop() {
+        intStack.push(1);
+        intStack.push(2);
+        intStack.push(3);
+
+        assertThat(intStack.size()).isEqualTo(3);
+        assertThat(intStack.pop()).isEqualTo(3);
+        assertThat(intStack.pop()).isEqualTo(2);
+        assertThat(intStack.pop()).isEqualTo(1);
+        assertThat(intStack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void pushNull() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> intStack.push(null));
+    }
+
+    @Test
+    void popFromEmptyStack() {
+        assertThatExceptionOfType(EmptyStackException.class)
+                .isThrownBy(() -> intStack.pop());
+    }
+
+    @Test
+    void peek() {
+        intStack = ArrayStack.of(1, 2, 3);
+
+        assertThat(intStack.peek()).isEqualTo(3);
+        assertThat(intStack.size()).isEqualTo(3);
+    }
+
+    @Test
+    void peekEmptyStack() {
+        assertThatExceptionOfType(EmptyStackException.class)
+                .isThrownBy(() -> intStack.peek());
+    }
+
+    @Test
+    void drainToInPopOrder() {
+        intStack = ArrayStack.of(1, 2, 3);
+        List<Integer> drained = new ArrayList<>();
+
+        int count = intStack.drainTo(drained);
+
+        assertThat(count).isEqualTo(3);
+        assertThat(drained).containsExactly(3, 2, 1);
+        assertThat(intStack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void clearKeepsStackUsable() {
+        intStack = ArrayStack.of(1, 2, 3);
+
+        intStack.clear();
+        intStack.push(4);
+
+        assertThat(intStack.size()).isEqualTo(1);
+        assertThat(intStack.pop()).isEqualTo(4);
+    }
+
+    @Test
+    void ofEmptyArray() {
+        intStack = ArrayStack.of();
+
+        assertThat(intStack.isEmpty()).isTrue();
+    }
+
+    @Test
+    void wrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new ArrayStack<>(0));
+    }
+
+    @Test
+    void capacityAboveMaximum() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new ArrayStack<>((1 << 30) + 1));
+    }
+}
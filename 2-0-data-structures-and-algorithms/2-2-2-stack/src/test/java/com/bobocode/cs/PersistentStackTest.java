@@ -0,0 +1,92 @@
+package com.bobocode.cs;
+
+import com.bobocode.cs.exception.EmptyStackException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class PersistentStackTest {
+
+    @Test
+    void pushReturnsNewVersion() {
+        PersistentStack<Integer> empty = PersistentStack.empty();
+        PersistentStack<Integer> one = empty.push(1);
+        PersistentStack<Integer> two = one.push(2);
+
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(one.size()).isEqualTo(1);
+        assertThat(one.peek()).isEqualTo(1);
+        assertThat(two.size()).isEqualTo(2);
+        assertThat(two.peek()).isEqualTo(2);
+    }
+
+    @Test
+    void popSharesRemainingElements() {
+        PersistentStack<Integer> stack = PersistentStack.of(1, 2, 3);
+
+        PersistentStack<Integer> popped = stack.pop();
+
+        assertThat(popped.peek()).isEqualTo(2);
+        assertThat(popped).containsExactly(2, 1);
+        assertThat(stack).containsExactly(3, 2, 1);
+        assertThat(popped.push(4).pop()).isSameAs(popped);
+    }
+
+    @Test
+    void pushNull() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> PersistentStack.empty().push(null));
+    }
+
+    @Test
+    void peekAndPopEmptyStack() {
+        PersistentStack<Integer> empty = PersistentStack.empty();
+
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(empty::peek);
+        assertThatExceptionOfType(EmptyStackException.class).isThrownBy(empty::pop);
+    }
+
+    @Test
+    void concurrentWritersPublishThroughAtomicReference() throws Exception {
+        AtomicReference<PersistentStack<Integer>> current = new AtomicReference<>(PersistentStack.empty());
+        int writers = 4;
+        int elementsPerWriter = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < elementsPerWriter; i++) {
+                        int element = i;
+                        current.updateAndGet(stack -> stack.push(element));
+                    }
+                }));
+            }
+            while (futures.stream().anyMatch(future -> !future.isDone())) {
+                PersistentStack<Integer> snapshot = current.get();
+                int counted = 0;
+                for (Integer ignored : snapshot) {
+                    counted++;
+                }
+                assertThat(counted).isEqualTo(snapshot.size());
+                Thread.yield();
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(current.get().size()).isEqualTo(writers * elementsPerWriter);
+    }
+}
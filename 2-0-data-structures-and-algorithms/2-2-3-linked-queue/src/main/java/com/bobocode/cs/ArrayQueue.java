@@ -0,0 +1,158 @@
+package com.bobocode.cs;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * {@link ArrayQueue} implements FIFO {@link Queue}, using a growable circular buffer. Elements are written at the tail
+ * index and read at the head index, both of which wrap around the array, so {@link ArrayQueue#add(Object)} and
+ * {@link ArrayQueue#poll()} are performed in a constant time. Unlike {@link LinkedQueue}, it does not create a node per
+ * element, so once the array is big enough, the queue does not allocate any memory.
+ * <p>
+ * The capacity of the array is always a power of two, so an index is wrapped with a bit mask. It never exceeds 2^30.
+ * <p>
+ * Null elements are not permitted, since {@link ArrayQueue#poll()} uses null to signal an empty queue.
+ *
+ * @param <T> a generic parameter
+ */
+public class ArrayQueue<T> implements Queue<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private Object[] elements;
+    private int head;
+    private int tail;
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link ArrayQueue} with an array that can hold at least initCapacity
+     * elements.
+     *
+     * @param initCapacity - the initial capacity of the queue
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public ArrayQueue(int initCapacity) {
+        if (initCapacity <= 0 || initCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException();
+        }
+        elements = new Object[roundUpToPowerOfTwo(initCapacity)];
+    }
+
+    /**
+     * This constructor creates an instance of {@link ArrayQueue} with a default capacity of an array inside.
+     */
+    public ArrayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    private static int roundUpToPowerOfTwo(int value) {
+        return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * Adds an element to the end of the queue. The array is doubled when it is full.
+     *
+     * @param element the element to add
+     * @throws NullPointerException  if the element is null
+     * @throws IllegalStateException if the queue already holds 2^30 elements
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        if (size == elements.length) {
+            grow();
+        }
+        elements[tail] = element;
+        tail = (tail + 1) & (elements.length - 1);
+        size++;
+    }
+
+    private void grow() {
+        if (elements.length == MAX_CAPACITY) {
+            throw new IllegalStateException("Queue is full");
+        }
+        Object[] newElements = new Object[elements.length * 2];
+        int headPart = elements.length - head;
+        System.arraycopy(elements, head, newElements, 0, headPart);
+        System.arraycopy(elements, 0, newElements, headPart, head);
+        head = 0;
+        tail = elements.length;
+        elements = newElements;
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        if (size == 0) {
+            return null;
+        }
+        T element = (T) elements[head];
+        elements[head] = null;
+        head = (head + 1) & (elements.length - 1);
+        size--;
+        return element;
+    }
+
+    /**
+     * Retrieves queue head without removing it.
+     *
+     * @return an element at the head or null if queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        return size == 0 ? null : (T) elements[head];
+    }
+
+    /**
+     * Removes all elements from the queue and adds them to the given collection in FIFO order.
+     *
+     * @param collection the collection to transfer elements into
+     * @return the number of elements transferred
+     */
+    public int drainTo(Collection<? super T> collection) {
+        Objects.requireNonNull(collection);
+        int drained = size;
+        while (size > 0) {
+            collection.add(poll());
+        }
+        head = tail = 0;
+        return drained;
+    }
+
+    /**
+     * Removes all elements from the queue. The array is kept, so the queue can be refilled without new allocations.
+     */
+    public void clear() {
+        int mask = elements.length - 1;
+        for (int i = head; size > 0; i = (i + 1) & mask) {
+            elements[i] = null;
+            size--;
+        }
+        head = tail = 0;
+    }
+
+    /**
+     * Returns a size of the queue.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,64 @@
+package com.bobocode.cs;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BlockingQueue} is a bounded {@link Queue} that can make a thread wait until the queue becomes non-empty when
+ * retrieving an element, or until there is space in the queue when adding an element. Since producers wait when
+ * the queue is full, a slow consumer pushes back on producers instead of letting the queue grow without a limit.
+ * <p>
+ * Methods {@link Queue#add(Object)} and {@link Queue#poll()} never wait. Null elements are not permitted.
+ */
+public interface BlockingQueue<T> extends Queue<T> {
+    /**
+     * Adds an element to the end of the queue if it is not full.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     */
+    boolean offer(T element);
+
+    /**
+     * Adds an element to the end of the queue, waiting up to the specified time for space to become available.
+     *
+     * @param element the element to add
+     * @param timeout how long to wait before giving up
+     * @param unit    a unit of timeout
+     * @return {@code true} if the element was added, {@code false} if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Adds an element to the end of the queue, waiting as long as necessary for space to become available.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void put(T element) throws InterruptedException;
+
+    /**
+     * Retrieves and removes queue head, waiting up to the specified time for an element to become available.
+     *
+     * @param timeout how long to wait before giving up
+     * @param unit    a unit of timeout
+     * @return an element that was retrieved from the head or null if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    T poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Retrieves and removes queue head, waiting as long as necessary for an element to become available.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if interrupted while waiting
+     */
+    T take() throws InterruptedException;
+
+    /**
+     * Returns the number of elements that can be added to the queue without waiting.
+     *
+     * @return remaining capacity of the queue
+     */
+    int remainingCapacity();
+}
@@ -0,0 +1,277 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * {@link BoundedBlockingQueue} is a thread-safe {@link BlockingQueue} that is based on a preallocated array, which
+ * length is a power of two. Any number of producers and consumers can use the same queue concurrently.
+ * <p>
+ * Each slot of the array has its own sequence number that tells whether the slot is ready to be written by a producer
+ * or read by a consumer on the current lap (an algorithm by Dmitry Vyukov). Producers and consumers claim slots by
+ * increasing their own padded counters with compare-and-set, so {@link BoundedBlockingQueue#offer(Object)} and
+ * {@link BoundedBlockingQueue#poll()} never take a lock.
+ * <p>
+ * When a thread has to wait for an element or for free space, it uses a {@link WaitStrategy}. Consumers and producers
+ * wait on separate strategy instances, so adding an element wakes up only consumers, and removing one wakes up only
+ * producers. A waiting thread checks the slot it is going to use rather than the claimed counters, so it keeps
+ * waiting while another thread has claimed that slot but has not finished writing or reading it yet. By default,
+ * waiting threads are parked, so consumers of an empty queue do not use CPU.
+ * <p>
+ * Null elements are not permitted, since {@link BoundedBlockingQueue#poll()} uses null to signal an empty queue.
+ *
+ * @param <T> a generic parameter
+ */
+public class BoundedBlockingQueue<T> implements BlockingQueue<T> {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final Object[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final WaitStrategy notEmpty;
+    private final WaitStrategy notFull;
+    private final PaddedSequence producerSequence = new PaddedSequence();
+    private final PaddedSequence consumerSequence = new PaddedSequence();
+
+    /**
+     * This constructor creates an instance of {@link BoundedBlockingQueue} which waiting threads are parked.
+     *
+     * @param capacity min number of elements the queue can hold, it is rounded up to a power of two
+     * @throws IllegalArgumentException if capacity is not between 1 and 2^30
+     */
+    public BoundedBlockingQueue(int capacity) {
+        this(capacity, WaitStrategy::park);
+    }
+
+    /**
+     * This constructor creates an instance of {@link BoundedBlockingQueue} which threads wait using strategies created
+     * by the provided factory. The factory is called twice, for consumers that wait for an element and for producers
+     * that wait for free space, and must return a new strategy every time.
+     *
+     * @param capacity            min number of elements the queue can hold, it is rounded up to a power of two, but
+     *                            not less than 2
+     * @param waitStrategyFactory creates strategies that are used to wait for an element or for free space
+     * @throws IllegalArgumentException if capacity is not between 1 and 2^30
+     */
+    public BoundedBlockingQueue(int capacity, Supplier<WaitStrategy> waitStrategyFactory) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        // with a single slot, "written on this lap" and "freed on this lap" would have the same sequence number
+        int roundedCapacity = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Object[roundedCapacity];
+        this.sequences = new AtomicLongArray(roundedCapacity);
+        for (int i = 0; i < roundedCapacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = roundedCapacity - 1;
+        this.notEmpty = Objects.requireNonNull(waitStrategyFactory.get());
+        this.notFull = Objects.requireNonNull(waitStrategyFactory.get());
+    }
+
+    /**
+     * Returns max number of elements the queue can hold.
+     *
+     * @return capacity of the queue
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     * @throws NullPointerException  if the element is null
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if it is not full.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        long sequence = producerSequence.get();
+        while (true) {
+            int index = (int) sequence & mask;
+            long difference = sequences.get(index) - sequence;
+            if (difference == 0) {
+                if (producerSequence.compareAndSet(sequence, sequence + 1)) {
+                    buffer[index] = element;
+                    // a volatile write, so a waiter that registered before this write is seen by signalAll
+                    sequences.set(index, sequence + 1);
+                    notEmpty.signalAll();
+                    return true;
+                }
+            } else if (difference < 0) {
+                // the slot still holds an element from the previous lap
+                return false;
+            }
+            sequence = producerSequence.get();
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting up to the specified time for space to become available.
+     *
+     * @param element the element to add
+     * @param timeout how long to wait before giving up
+     * @param unit    a unit of timeout
+     * @return {@code true} if the element was added, {@code false} if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public boolean offer(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!offer(element)) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0 || !notFull.await(this::hasRemainingCapacity, remainingNanos)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds an element to the end of the queue, waiting as long as necessary for space to become available.
+     *
+     * @param element the element to add
+     * @throws InterruptedException if interrupted while waiting
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void put(T element) throws InterruptedException {
+        while (!offer(element)) {
+            notFull.await(this::hasRemainingCapacity, Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long sequence = consumerSequence.get();
+        while (true) {
+            int index = (int) sequence & mask;
+            long difference = sequences.get(index) - (sequence + 1);
+            if (difference == 0) {
+                if (consumerSequence.compareAndSet(sequence, sequence + 1)) {
+                    T element = (T) buffer[index];
+                    buffer[index] = null;
+                    sequences.set(index, sequence + mask + 1);
+                    notFull.signalAll();
+                    return element;
+                }
+            } else if (difference < 0) {
+                // no producer has written the slot on this lap yet
+                return null;
+            }
+            sequence = consumerSequence.get();
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting up to the specified time for an element to become available.
+     *
+     * @param timeout how long to wait before giving up
+     * @param unit    a unit of timeout
+     * @return an element that was retrieved from the head or null if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        T element;
+        while ((element = poll()) == null) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0 || !notEmpty.await(this::hasElements, remainingNanos)) {
+                return null;
+            }
+        }
+        return element;
+    }
+
+    /**
+     * Retrieves and removes queue head, waiting as long as necessary for an element to become available.
+     *
+     * @return an element that was retrieved from the head
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public T take() throws InterruptedException {
+        T element;
+        while ((element = poll()) == null) {
+            notEmpty.await(this::hasElements, Long.MAX_VALUE);
+        }
+        return element;
+    }
+
+    /**
+     * Checks if the head slot is written on the current lap, the same way as {@link BoundedBlockingQueue#poll()} does.
+     */
+    private boolean hasElements() {
+        long sequence = consumerSequence.get();
+        return sequences.get((int) sequence & mask) - (sequence + 1) >= 0;
+    }
+
+    /**
+     * Checks if the tail slot is freed on the current lap, the same way as {@link BoundedBlockingQueue#offer(Object)}
+     * does.
+     */
+    private boolean hasRemainingCapacity() {
+        long sequence = producerSequence.get();
+        return sequences.get((int) sequence & mask) - sequence >= 0;
+    }
+
+    /**
+     * Returns the number of elements that can be added to the queue without waiting. If the queue is modified
+     * concurrently, the value may already be outdated when it is returned.
+     *
+     * @return remaining capacity of the queue
+     */
+    @Override
+    public int remainingCapacity() {
+        return capacity() - size();
+    }
+
+    /**
+     * Returns a size of the queue. If the queue is modified concurrently, the size may already be outdated when it is
+     * returned.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        long consumer = consumerSequence.get();
+        long producer = producerSequence.get();
+        return (int) Math.max(0, Math.min(producer - consumer, capacity()));
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.bobocode.cs;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link BusySpinWaitStrategy} checks the condition in a tight loop without giving up the CPU. It reacts to a change
+ * faster than other strategies, but should be used only when there is a dedicated core for each waiting thread.
+ */
+class BusySpinWaitStrategy implements WaitStrategy {
+
+    @Override
+    public boolean await(BooleanSupplier condition, long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (!condition.getAsBoolean()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (timeoutNanos != Long.MAX_VALUE && System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+        return true;
+    }
+
+    @Override
+    public void signalAll() {
+    }
+}
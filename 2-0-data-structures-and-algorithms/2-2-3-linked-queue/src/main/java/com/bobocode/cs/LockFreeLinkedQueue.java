@@ -0,0 +1,129 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * {@link LockFreeLinkedQueue} is a thread-safe FIFO {@link Queue} that is based on the non-blocking algorithm by
+ * Maged M. Michael and Michael L. Scott. Instead of locks, it updates head and tail references, and links of
+ * the nodes using compare-and-set (CAS) operations, so any number of producers and consumers can use the same queue
+ * concurrently and a thread that is suspended never blocks the others.
+ * <p>
+ * The queue always starts with a dummy node, so head and tail are never null. A thread that sees the tail lagging
+ * behind the last node helps to move it forward before retrying its own operation.
+ * <p>
+ * Null elements are not permitted, since {@link LockFreeLinkedQueue#poll()} uses null to signal an empty queue.
+ *
+ * @param <T> a generic parameter
+ */
+public class LockFreeLinkedQueue<T> implements Queue<T> {
+
+    private static class Node<T> {
+        private volatile T element;
+        private volatile Node<T> next;
+
+        private Node(T element) {
+            this.element = element;
+        }
+
+        static <T> Node<T> valueOf(T element) {
+            return new Node<>(element);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockFreeLinkedQueue, Node> HEAD =
+            AtomicReferenceFieldUpdater.newUpdater(LockFreeLinkedQueue.class, Node.class, "head");
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LockFreeLinkedQueue, Node> TAIL =
+            AtomicReferenceFieldUpdater.newUpdater(LockFreeLinkedQueue.class, Node.class, "tail");
+
+    private volatile Node<T> head;
+    private volatile Node<T> tail;
+
+    public LockFreeLinkedQueue() {
+        head = tail = Node.valueOf(null);
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public void add(T element) {
+        Objects.requireNonNull(element);
+        Node<T> newNode = Node.valueOf(element);
+        while (true) {
+            Node<T> currentTail = tail;
+            Node<T> next = currentTail.next;
+            if (currentTail == tail) {
+                if (next == null) {
+                    if (NEXT.compareAndSet(currentTail, null, newNode)) {
+                        TAIL.compareAndSet(this, currentTail, newNode);
+                        return;
+                    }
+                } else {
+                    TAIL.compareAndSet(this, currentTail, next);
+                }
+            }
+        }
+    }
+
+    /**
+     * Retrieves and removes queue head.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        while (true) {
+            Node<T> currentHead = head;
+            Node<T> currentTail = tail;
+            Node<T> first = currentHead.next;
+            if (currentHead == head) {
+                if (currentHead == currentTail) {
+                    if (first == null) {
+                        return null;
+                    }
+                    TAIL.compareAndSet(this, currentTail, first);
+                } else {
+                    T element = first.element;
+                    if (HEAD.compareAndSet(this, currentHead, first)) {
+                        first.element = null;
+                        return element;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a size of the queue. The queue is traversed to count its elements, so the operation takes linear time
+     * O(n), and the result may be inaccurate if the queue is modified concurrently.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        int size = 0;
+        for (Node<T> node = head.next; node != null && size < Integer.MAX_VALUE; node = node.next) {
+            size++;
+        }
+        return size;
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return head.next == null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.bobocode.cs;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * {@link PaddedSequence} is a counter that is surrounded by unused fields, so it takes a whole cache line. When two
+ * threads update two different counters that share a cache line, every write invalidates the line for the other
+ * thread (false sharing). Padding keeps such counters on separate cache lines.
+ */
+class PaddedSequence {
+    private static final AtomicLongFieldUpdater<PaddedSequence> VALUE =
+            AtomicLongFieldUpdater.newUpdater(PaddedSequence.class, "value");
+
+    @SuppressWarnings("unused")
+    private long p1, p2, p3, p4, p5, p6, p7;
+    private volatile long value;
+    @SuppressWarnings("unused")
+    private long p9, p10, p11, p12, p13, p14, p15;
+
+    long get() {
+        return value;
+    }
+
+    /**
+     * Sets a new value that becomes visible to other threads eventually, without a full memory fence. All the writes
+     * that happen before this one become visible no later than the new value.
+     *
+     * @param newValue a new value
+     */
+    void setOrdered(long newValue) {
+        VALUE.lazySet(this, newValue);
+    }
+
+    boolean compareAndSet(long expectedValue, long newValue) {
+        return VALUE.compareAndSet(this, expectedValue, newValue);
+    }
+}
@@ -0,0 +1,54 @@
+package com.bobocode.cs;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link ParkingWaitStrategy} suspends waiting threads on a {@link Condition}. A thread registers itself as a waiter
+ * before it checks the condition, and signalling threads take the lock only when there are registered waiters, so
+ * operations that nobody waits for stay lock-free.
+ */
+class ParkingWaitStrategy implements WaitStrategy {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    @Override
+    public boolean await(BooleanSupplier condition, long timeoutNanos) throws InterruptedException {
+        if (condition.getAsBoolean()) {
+            return true;
+        }
+        long remainingNanos = timeoutNanos;
+        lock.lockInterruptibly();
+        waiters.incrementAndGet();
+        try {
+            while (!condition.getAsBoolean()) {
+                if (timeoutNanos == Long.MAX_VALUE) {
+                    changed.await();
+                } else if (remainingNanos <= 0) {
+                    return false;
+                } else {
+                    remainingNanos = changed.awaitNanos(remainingNanos);
+                }
+            }
+            return true;
+        } finally {
+            waiters.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void signalAll() {
+        if (waiters.get() > 0) {
+            lock.lock();
+            try {
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
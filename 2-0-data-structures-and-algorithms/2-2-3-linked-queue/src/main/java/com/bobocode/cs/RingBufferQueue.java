@@ -0,0 +1,211 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * {@link RingBufferQueue} is a bounded thread-safe FIFO {@link Queue} that is based on a preallocated array, which
+ * length is a power of two. It is meant to connect stages of a pipeline, where a single consumer thread takes
+ * elements that are added either by a single producer thread or by multiple producer threads.
+ * <ul>
+ *     <li>{@link RingBufferQueue#singleProducer(int)} creates a queue where only one thread adds elements, so
+ *     a producer never competes for a slot and does not need compare-and-set operations</li>
+ *     <li>{@link RingBufferQueue#multiProducer(int)} creates a queue where producers claim slots by increasing
+ *     the producer sequence with compare-and-set</li>
+ * </ul>
+ * In both modes {@link RingBufferQueue#poll()} and {@link RingBufferQueue#drain(Consumer, int)} must be called by
+ * one thread at a time. The queue does not allocate memory on add or poll. Producer and consumer sequences are padded,
+ * so they never share a cache line.
+ * <p>
+ * Null elements are not permitted, since an empty slot is marked with null.
+ *
+ * @param <T> a generic parameter
+ */
+public class RingBufferQueue<T> implements Queue<T> {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final AtomicReferenceArray<T> buffer;
+    private final int mask;
+    private final boolean multiProducer;
+    private final PaddedSequence producerSequence = new PaddedSequence();
+    private final PaddedSequence consumerSequence = new PaddedSequence();
+
+    private RingBufferQueue(int capacity, boolean multiProducer) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        int roundedCapacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new AtomicReferenceArray<>(roundedCapacity);
+        this.mask = roundedCapacity - 1;
+        this.multiProducer = multiProducer;
+    }
+
+    /**
+     * Creates a queue that can be filled by one producer thread and drained by one consumer thread.
+     *
+     * @param capacity min number of elements the queue can hold, it is rounded up to a power of two
+     * @param <T>      a generic parameter
+     * @return a new single-producer single-consumer queue
+     * @throws IllegalArgumentException if capacity is not between 1 and 2^30
+     */
+    public static <T> RingBufferQueue<T> singleProducer(int capacity) {
+        return new RingBufferQueue<>(capacity, false);
+    }
+
+    /**
+     * Creates a queue that can be filled by many producer threads and drained by one consumer thread.
+     *
+     * @param capacity min number of elements the queue can hold, it is rounded up to a power of two
+     * @param <T>      a generic parameter
+     * @return a new multi-producer single-consumer queue
+     * @throws IllegalArgumentException if capacity is not between 1 and 2^30
+     */
+    public static <T> RingBufferQueue<T> multiProducer(int capacity) {
+        return new RingBufferQueue<>(capacity, true);
+    }
+
+    /**
+     * Returns max number of elements the queue can hold.
+     *
+     * @return capacity of the queue
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Adds an element to the end of the queue.
+     *
+     * @param element the element to add
+     * @throws IllegalStateException if the queue is full
+     * @throws NullPointerException  if the element is null
+     */
+    @Override
+    public void add(T element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("Queue is full");
+        }
+    }
+
+    /**
+     * Adds an element to the end of the queue if it is not full.
+     *
+     * @param element the element to add
+     * @return {@code true} if the element was added, {@code false} if the queue is full
+     * @throws NullPointerException if the element is null
+     */
+    public boolean offer(T element) {
+        Objects.requireNonNull(element);
+        return multiProducer ? offerMultiProducer(element) : offerSingleProducer(element);
+    }
+
+    private boolean offerSingleProducer(T element) {
+        long sequence = producerSequence.get();
+        int index = (int) sequence & mask;
+        if (buffer.get(index) != null) {
+            return false;
+        }
+        buffer.lazySet(index, element);
+        producerSequence.setOrdered(sequence + 1);
+        return true;
+    }
+
+    private boolean offerMultiProducer(T element) {
+        long sequence;
+        do {
+            sequence = producerSequence.get();
+            if (sequence - consumerSequence.get() > mask) {
+                return false;
+            }
+        } while (!producerSequence.compareAndSet(sequence, sequence + 1));
+        buffer.lazySet((int) sequence & mask, element);
+        return true;
+    }
+
+    /**
+     * Retrieves and removes queue head. Must be called by one consumer thread at a time.
+     *
+     * @return an element that was retrieved from the head or null if queue is empty
+     */
+    @Override
+    public T poll() {
+        long sequence = consumerSequence.get();
+        T element = takeAt(sequence);
+        if (element != null) {
+            consumerSequence.setOrdered(sequence + 1);
+        }
+        return element;
+    }
+
+    /**
+     * Retrieves and removes up to maxElements from the head of the queue and passes them to the consumer in FIFO
+     * order. The consumer sequence is published once per batch. If the consumer throws an exception, the elements
+     * that were passed to it, including the one it failed on, are removed from the queue, and the rest stay in place.
+     * Must be called by one consumer thread at a time.
+     *
+     * @param consumer    accepts retrieved elements
+     * @param maxElements max number of elements to retrieve
+     * @return the number of retrieved elements
+     */
+    public int drain(Consumer<? super T> consumer, int maxElements) {
+        Objects.requireNonNull(consumer);
+        long sequence = consumerSequence.get();
+        int drained = 0;
+        try {
+            while (drained < maxElements) {
+                T element = takeAt(sequence + drained);
+                if (element == null) {
+                    break;
+                }
+                drained++;
+                consumer.accept(element);
+            }
+        } finally {
+            if (drained > 0) {
+                consumerSequence.setOrdered(sequence + drained);
+            }
+        }
+        return drained;
+    }
+
+    private T takeAt(long sequence) {
+        int index = (int) sequence & mask;
+        T element = buffer.get(index);
+        if (element == null) {
+            if (!multiProducer || sequence == producerSequence.get()) {
+                return null;
+            }
+            // a producer has claimed the slot, but has not stored its element yet
+            do {
+                Thread.onSpinWait();
+                element = buffer.get(index);
+            } while (element == null);
+        }
+        buffer.lazySet(index, null);
+        return element;
+    }
+
+    /**
+     * Returns a size of the queue. If the queue is modified concurrently, the size may already be outdated when it is
+     * returned.
+     *
+     * @return an integer value that is a size of queue
+     */
+    @Override
+    public int size() {
+        long consumer = consumerSequence.get();
+        long producer = producerSequence.get();
+        return (int) Math.max(0, Math.min(producer - consumer, capacity()));
+    }
+
+    /**
+     * Checks if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty, returns {@code false} if it's not
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
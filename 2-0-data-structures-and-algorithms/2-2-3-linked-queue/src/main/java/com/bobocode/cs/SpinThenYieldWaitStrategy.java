@@ -0,0 +1,34 @@
+package com.bobocode.cs;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link SpinThenYieldWaitStrategy} checks the condition in a tight loop for a limited number of attempts, and then
+ * calls {@link Thread#yield()} between checks, so other threads can use the CPU.
+ */
+class SpinThenYieldWaitStrategy implements WaitStrategy {
+    private static final int SPIN_TRIES = 100;
+
+    @Override
+    public boolean await(BooleanSupplier condition, long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        for (int attempt = 0; !condition.getAsBoolean(); attempt++) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (timeoutNanos != Long.MAX_VALUE && System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            if (attempt < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void signalAll() {
+    }
+}
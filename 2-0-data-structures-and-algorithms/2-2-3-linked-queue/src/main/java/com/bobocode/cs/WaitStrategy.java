@@ -0,0 +1,59 @@
+package com.bobocode.cs;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link WaitStrategy} defines how a thread waits for a condition of a {@link BlockingQueue}, e.g. for the queue to
+ * become non-empty. Strategies trade CPU usage for latency:
+ * <ul>
+ *     <li>{@link WaitStrategy#park()} suspends a thread until it is signalled, so waiting threads do not use CPU, but
+ *     waking a thread up takes microseconds</li>
+ *     <li>{@link WaitStrategy#spinThenYield()} spins for a short time and then yields the CPU to other threads between
+ *     checks</li>
+ *     <li>{@link WaitStrategy#busySpin()} checks the condition in a tight loop, which gives the lowest latency, but
+ *     burns a whole core per waiting thread</li>
+ * </ul>
+ */
+public interface WaitStrategy {
+    /**
+     * Waits until the condition becomes true, the timeout elapses, or the thread is interrupted.
+     *
+     * @param condition    a condition to wait for
+     * @param timeoutNanos max time to wait in nanoseconds, {@link Long#MAX_VALUE} to wait without a timeout
+     * @return {@code true} if the condition became true, {@code false} if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean await(BooleanSupplier condition, long timeoutNanos) throws InterruptedException;
+
+    /**
+     * Notifies waiting threads that a condition they wait for may have changed.
+     */
+    void signalAll();
+
+    /**
+     * Creates a strategy that suspends waiting threads until they are signalled.
+     *
+     * @return a new parking wait strategy
+     */
+    static WaitStrategy park() {
+        return new ParkingWaitStrategy();
+    }
+
+    /**
+     * Creates a strategy that spins for a short time and then yields the CPU between checks.
+     *
+     * @return a new spin-then-yield wait strategy
+     */
+    static WaitStrategy spinThenYield() {
+        return new SpinThenYieldWaitStrategy();
+    }
+
+    /**
+     * Creates a strategy that checks the condition in a tight loop.
+     *
+     * @return a new busy-spin wait strategy
+     */
+    static WaitStrategy busySpin() {
+        return new BusySpinWaitStrategy();
+    }
+}
@@ -0,0 +1,102 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ArrayQueueTest {
+
+    private ArrayQueue<Integer> integerQueue = new ArrayQueue<>(4);
+
+    @Test
+    void addAndPollInFifoOrder() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+
+        assertThat(integerQueue.size()).isEqualTo(3);
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+        assertThat(integerQueue.poll()).isNull();
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void growWhenBufferWrapsAround() {
+        for (int i = 0; i < 3; i++) {
+            integerQueue.add(i);
+        }
+        integerQueue.poll();
+        integerQueue.poll();
+        for (int i = 3; i < 10; i++) {
+            integerQueue.add(i);
+        }
+
+        List<Integer> polled = new ArrayList<>();
+        while (!integerQueue.isEmpty()) {
+            polled.add(integerQueue.poll());
+        }
+
+        assertThat(polled).containsExactly(2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void peek() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+
+        assertThat(integerQueue.peek()).isEqualTo(1);
+        assertThat(integerQueue.size()).isEqualTo(2);
+    }
+
+    @Test
+    void peekEmptyQueue() {
+        assertThat(integerQueue.peek()).isNull();
+    }
+
+    @Test
+    void drainToInFifoOrder() {
+        for (int i = 0; i < 6; i++) {
+            integerQueue.add(i);
+        }
+        integerQueue.poll();
+        List<Integer> drained = new ArrayList<>();
+
+        int count = integerQueue.drainTo(drained);
+
+        assertThat(count).isEqualTo(5);
+        assertThat(drained).containsExactly(1, 2, 3, 4, 5);
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void clearKeepsQueueUsable() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.poll();
+
+        integerQueue.clear();
+        integerQueue.add(3);
+
+        assertThat(integerQueue.size()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+    }
+
+    @Test
+    void addNull() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> integerQueue.add(null));
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void wrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new ArrayQueue<>(0));
+    }
+}
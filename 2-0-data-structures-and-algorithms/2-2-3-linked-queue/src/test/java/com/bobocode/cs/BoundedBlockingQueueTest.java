@@ -0,0 +1,191 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BoundedBlockingQueueTest {
+
+    static Stream<Supplier<WaitStrategy>> waitStrategies() {
+        return Stream.of(WaitStrategy::park, WaitStrategy::spinThenYield, WaitStrategy::busySpin);
+    }
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new BoundedBlockingQueue<>(5).capacity()).isEqualTo(8);
+        assertThat(new BoundedBlockingQueue<>(8).capacity()).isEqualTo(8);
+        assertThat(new BoundedBlockingQueue<>(1).capacity()).isEqualTo(2);
+    }
+
+    @Test
+    void wrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new BoundedBlockingQueue<>(0));
+    }
+
+    @Test
+    void addNull() {
+        BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(2);
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> queue.add(null));
+    }
+
+    @Test
+    void addAndPollInFifoOrder() {
+        BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(4);
+
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.remainingCapacity()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void offerToFullQueue() {
+        BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(2);
+
+        assertThat(queue.offer(1)).isTrue();
+        assertThat(queue.offer(2)).isTrue();
+        assertThat(queue.offer(3)).isFalse();
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> queue.add(3));
+        queue.poll();
+        assertThat(queue.offer(3)).isTrue();
+    }
+
+    @ParameterizedTest
+    @MethodSource("waitStrategies")
+    void timedPollReturnsNullWhenTimeoutElapses(Supplier<WaitStrategy> waitStrategy) throws InterruptedException {
+        BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(2, waitStrategy);
+
+        assertThat(queue.poll(20, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("waitStrategies")
+    void timedOfferReturnsFalseWhenTimeoutElapses(Supplier<WaitStrategy> waitStrategy) throws InterruptedException {
+        BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(2, waitStrategy);
+        queue.add(1);
+        queue.add(2);
+
+        assertThat(queue.offer(3, 20, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(queue.size()).isEqualTo(2);
+    }
+
+    @Test
+    void takeWaitsForElement() throws Exception {
+        BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(2);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> taken = executor.submit(queue::take);
+            Thread.sleep(50);
+            assertThat(taken).isNotDone();
+
+            queue.put(7);
+
+            assertThat(taken.get(5, TimeUnit.SECONDS)).isEqualTo(7);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void putWaitsForFreeSpace() throws Exception {
+        BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(2);
+        queue.put(1);
+        queue.put(2);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> put = executor.submit(() -> {
+                queue.put(3);
+                return null;
+            });
+            Thread.sleep(50);
+            assertThat(put).isNotDone();
+
+            assertThat(queue.take()).isEqualTo(1);
+
+            put.get(5, TimeUnit.SECONDS);
+            assertThat(queue.take()).isEqualTo(2);
+            assertThat(queue.take()).isEqualTo(3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void takeIsInterruptible() throws Exception {
+        BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(2);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> taken = executor.submit(queue::take);
+            Thread.sleep(50);
+
+            executor.shutdownNow();
+
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(taken).isDone();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("waitStrategies")
+    void multipleProducersAndConsumersTransferAllElements(Supplier<WaitStrategy> waitStrategy) throws Exception {
+        BoundedBlockingQueue<Integer> queue = new BoundedBlockingQueue<>(16, waitStrategy);
+        int producers = 2;
+        int consumers = 2;
+        int elementsPerProducer = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        try {
+            List<Future<Long>> consumed = new ArrayList<>();
+            for (int c = 0; c < consumers; c++) {
+                consumed.add(executor.submit(() -> {
+                    long sum = 0;
+                    for (int i = 0; i < producers * elementsPerProducer / consumers; i++) {
+                        sum += queue.take();
+                    }
+                    return sum;
+                }));
+            }
+            for (int p = 0; p < producers; p++) {
+                executor.submit(() -> {
+                    for (int i = 1; i <= elementsPerProducer; i++) {
+                        queue.put(i);
+                    }
+                    return null;
+                });
+            }
+            long total = 0;
+            for (Future<Long> future : consumed) {
+                total += future.get(30, TimeUnit.SECONDS);
+            }
+
+            assertThat(total).isEqualTo((long) producers * elementsPerProducer * (elementsPerProducer + 1) / 2);
+            assertThat(queue.isEmpty()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class LockFreeLinkedQueueTest {
+
+    private Queue<Integer> integerQueue = new LockFreeLinkedQueue<>();
+
+    @Test
+    void addAndPollInFifoOrder() {
+        integerQueue.add(1);
+        integerQueue.add(2);
+        integerQueue.add(3);
+
+        assertThat(integerQueue.size()).isEqualTo(3);
+        assertThat(integerQueue.poll()).isEqualTo(1);
+        assertThat(integerQueue.poll()).isEqualTo(2);
+        assertThat(integerQueue.poll()).isEqualTo(3);
+    }
+
+    @Test
+    void pollEmptyQueue() {
+        assertThat(integerQueue.poll()).isNull();
+        assertThat(integerQueue.isEmpty()).isTrue();
+        assertThat(integerQueue.size()).isEqualTo(0);
+    }
+
+    @Test
+    void addNull() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> integerQueue.add(null));
+    }
+
+    @Test
+    void concurrentProducersAndConsumers() throws Exception {
+        int producers = 4;
+        int consumers = 4;
+        int elementsPerProducer = 25_000;
+        int total = producers * elementsPerProducer;
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger consumed = new AtomicInteger();
+        ConcurrentHashMap<Integer, Boolean> seen = new ConcurrentHashMap<>();
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int p = 0; p < producers; p++) {
+                int offset = p * elementsPerProducer;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < elementsPerProducer; i++) {
+                        integerQueue.add(offset + i);
+                    }
+                    return null;
+                }));
+            }
+            for (int c = 0; c < consumers; c++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    while (consumed.get() < total) {
+                        Integer element = integerQueue.poll();
+                        if (element != null) {
+                            assertThat(seen.put(element, Boolean.TRUE)).isNull();
+                            consumed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(seen).hasSize(total);
+        assertThat(integerQueue.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,180 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class RingBufferQueueTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(RingBufferQueue.singleProducer(5).capacity()).isEqualTo(8);
+        assertThat(RingBufferQueue.multiProducer(8).capacity()).isEqualTo(8);
+        assertThat(RingBufferQueue.singleProducer(1).capacity()).isEqualTo(1);
+    }
+
+    @Test
+    void wrongCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> RingBufferQueue.singleProducer(0));
+    }
+
+    @Test
+    void addAndPollInFifoOrder() {
+        RingBufferQueue<Integer> queue = RingBufferQueue.singleProducer(4);
+
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+
+        assertThat(queue.size()).isEqualTo(3);
+        assertThat(queue.poll()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(2);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void offerToFullQueue() {
+        RingBufferQueue<Integer> singleProducerQueue = RingBufferQueue.singleProducer(2);
+        RingBufferQueue<Integer> multiProducerQueue = RingBufferQueue.multiProducer(2);
+
+        for (RingBufferQueue<Integer> queue : List.of(singleProducerQueue, multiProducerQueue)) {
+            assertThat(queue.offer(1)).isTrue();
+            assertThat(queue.offer(2)).isTrue();
+            assertThat(queue.offer(3)).isFalse();
+            assertThatExceptionOfType(IllegalStateException.class)
+                    .isThrownBy(() -> queue.add(3));
+            queue.poll();
+            assertThat(queue.offer(3)).isTrue();
+        }
+    }
+
+    @Test
+    void addNull() {
+        RingBufferQueue<Integer> queue = RingBufferQueue.multiProducer(2);
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> queue.add(null));
+    }
+
+    @Test
+    void drainUpToMaxElements() {
+        RingBufferQueue<Integer> queue = RingBufferQueue.multiProducer(8);
+        for (int i = 0; i < 6; i++) {
+            queue.add(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+
+        assertThat(queue.drain(drained::add, 4)).isEqualTo(4);
+        assertThat(queue.drain(drained::add, 4)).isEqualTo(2);
+        assertThat(queue.drain(drained::add, 4)).isEqualTo(0);
+
+        assertThat(drained).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void drainKeepsQueueConsistentWhenConsumerThrows() {
+        checkDrainWhenConsumerThrows(RingBufferQueue.multiProducer(8));
+    }
+
+    @Test
+    void drainKeepsSingleProducerQueueConsistentWhenConsumerThrows() {
+        checkDrainWhenConsumerThrows(RingBufferQueue.singleProducer(8));
+    }
+
+    private void checkDrainWhenConsumerThrows(RingBufferQueue<Integer> queue) {
+        queue.add(1);
+        queue.add(2);
+        queue.add(3);
+        List<Integer> drained = new ArrayList<>();
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> queue.drain(element -> {
+            if (element == 2) {
+                throw new IllegalStateException();
+            }
+            drained.add(element);
+        }, 8));
+
+        assertThat(drained).containsExactly(1);
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.poll()).isEqualTo(3);
+        assertThat(queue.poll()).isNull();
+        queue.add(4);
+        assertThat(queue.poll()).isEqualTo(4);
+    }
+
+    @Test
+    void singleProducerSingleConsumerKeepsOrder() throws Exception {
+        RingBufferQueue<Integer> queue = RingBufferQueue.singleProducer(64);
+        int total = 50_000;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> producer = executor.submit(() -> {
+                for (int i = 0; i < total; i++) {
+                    while (!queue.offer(i)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            int expected = 0;
+            while (expected < total) {
+                Integer element = queue.poll();
+                if (element != null) {
+                    assertThat(element).isEqualTo(expected);
+                    expected++;
+                }
+            }
+            producer.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void multiProducerSingleConsumerKeepsOrderOfEachProducer() throws Exception {
+        RingBufferQueue<int[]> queue = RingBufferQueue.multiProducer(128);
+        int producers = 4;
+        int elementsPerProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int producerId = p;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < elementsPerProducer; i++) {
+                        int[] element = {producerId, i};
+                        while (!queue.offer(element)) {
+                            Thread.yield();
+                        }
+                    }
+                }));
+            }
+            int[] nextExpected = new int[producers];
+            int consumed = 0;
+            while (consumed < producers * elementsPerProducer) {
+                consumed += queue.drain(element -> {
+                    assertThat(element[1]).isEqualTo(nextExpected[element[0]]);
+                    nextExpected[element[0]]++;
+                }, 32);
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            assertThat(nextExpected).containsOnly(elementsPerProducer);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
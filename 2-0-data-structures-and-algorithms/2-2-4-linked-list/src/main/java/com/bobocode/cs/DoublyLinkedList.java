@@ -0,0 +1,391 @@
+package com.bobocode.cs;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * {@link DoublyLinkedList} is a list implementation that is based on doubly linked generic nodes. Each node keeps
+ * references to both next and previous nodes, so the list can be traversed from either end. Access by index walks from
+ * the head or from the tail, depending on which one is closer, and elements at both ends are added or removed in
+ * constant time O(1).
+ *
+ * @param <T> generic type parameter
+ */
+public class DoublyLinkedList<T> implements List<T> {
+
+    private static class Node<T> {
+        private T value;
+        private Node<T> next;
+        private Node<T> prev;
+
+        private Node(T value) {
+            this.value = value;
+        }
+
+        static <T> Node<T> valueOf(T value) {
+            return new Node<>(value);
+        }
+    }
+
+    private Node<T> first;
+    private Node<T> last;
+    private int size;
+    private int modCount;
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    public static <T> DoublyLinkedList<T> of(T... elements) {
+        DoublyLinkedList<T> linkedList = new DoublyLinkedList<>();
+        Stream.of(elements).forEach(linkedList::add);
+        return linkedList;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        linkBefore(element, null);
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        linkBefore(element, index == size ? null : nodeAt(index));
+    }
+
+    private void linkBefore(T element, Node<T> successor) {
+        Node<T> newNode = Node.valueOf(element);
+        Node<T> predecessor = successor == null ? last : successor.prev;
+        newNode.prev = predecessor;
+        newNode.next = successor;
+        if (predecessor == null) {
+            first = newNode;
+        } else {
+            predecessor.next = newNode;
+        }
+        if (successor == null) {
+            last = newNode;
+        } else {
+            successor.prev = newNode;
+        }
+        size++;
+        modCount++;
+    }
+
+    private Node<T> nodeAt(int index) {
+        Objects.checkIndex(index, size);
+        Node<T> currentNode;
+        if (index < size / 2) {
+            currentNode = first;
+            for (int i = 0; i < index; i++) {
+                currentNode = currentNode.next;
+            }
+        } else {
+            currentNode = last;
+            for (int i = size - 1; i > index; i--) {
+                currentNode = currentNode.prev;
+            }
+        }
+        return currentNode;
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        nodeAt(index).value = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. The list is traversed from the end that is closer to the index.
+     * In case provided index in out of the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    public T get(int index) {
+        return nodeAt(index).value;
+    }
+
+    /**
+     * Returns the head element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the head element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getFirst() {
+        checkElementsExist();
+        return first.value;
+    }
+
+    /**
+     * Returns the tail element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the tail element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getLast() {
+        checkElementsExist();
+        return last.value;
+    }
+
+    private void checkElementsExist() {
+        if (first == null) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        return unlink(nodeAt(index));
+    }
+
+    /**
+     * Removes the head element of the list. Operation is performed in constant time O(1)
+     *
+     * @return deleted element
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public T removeFirst() {
+        checkElementsExist();
+        return unlink(first);
+    }
+
+    /**
+     * Removes the tail element of the list. Operation is performed in constant time O(1)
+     *
+     * @return deleted element
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    public T removeLast() {
+        checkElementsExist();
+        return unlink(last);
+    }
+
+    private T unlink(Node<T> node) {
+        Node<T> predecessor = node.prev;
+        Node<T> successor = node.next;
+        if (predecessor == null) {
+            first = successor;
+        } else {
+            predecessor.next = successor;
+        }
+        if (successor == null) {
+            last = predecessor;
+        } else {
+            successor.prev = predecessor;
+        }
+        node.prev = node.next = null;
+        size--;
+        modCount++;
+        return node.value;
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (Node<T> currentNode = first; currentNode != null; currentNode = currentNode.next) {
+            if (Objects.equals(currentNode.value, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return first == null;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        first = last = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements
+     *
+     * @return an iterator over the list elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a fail-fast {@link ListIterator} over the list elements that starts at the head of the list
+     *
+     * @return a list iterator
+     */
+    public ListIterator<T> listIterator() {
+        return listIterator(0);
+    }
+
+    /**
+     * Returns a fail-fast {@link ListIterator} over the list elements that starts at the specific position. The
+     * iterator inserts and removes elements at its cursor in constant time O(1). In case provided index in out of
+     * the list bounds it throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of the first element to be returned by {@link ListIterator#next()}
+     * @return a list iterator
+     */
+    public ListIterator<T> listIterator(int index) {
+        Objects.checkIndex(index, size + 1);
+        return new DoublyLinkedListIterator(index);
+    }
+
+    private class DoublyLinkedListIterator implements ListIterator<T> {
+        private Node<T> next;
+        private Node<T> lastReturned;
+        private int nextIndex;
+        private int expectedModCount = modCount;
+
+        private DoublyLinkedListIterator(int index) {
+            next = index == size ? null : nodeAt(index);
+            nextIndex = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next;
+            next = next.next;
+            nextIndex++;
+            return lastReturned.value;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+            if (!hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            next = next == null ? last : next.prev;
+            lastReturned = next;
+            nextIndex--;
+            return lastReturned.value;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            checkForComodification();
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            Node<T> lastNext = lastReturned.next;
+            unlink(lastReturned);
+            if (next == lastReturned) {
+                next = lastNext;
+            } else {
+                nextIndex--;
+            }
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(T element) {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            lastReturned.value = element;
+        }
+
+        @Override
+        public void add(T element) {
+            checkForComodification();
+            lastReturned = null;
+            linkBefore(element, next);
+            nextIndex++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
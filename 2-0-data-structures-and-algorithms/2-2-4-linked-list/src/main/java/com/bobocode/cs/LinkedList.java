@@ -3,6 +3,8 @@ package com.bobocode.cs;
 
 import com.bobocode.util.ExerciseNotCompletedException;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -31,6 +33,7 @@ public class LinkedList<T> implements List<T> {
     private Node<T> first;
     private Node<T> last;
     private int size;
+    private int modCount;
 
     /**
      * This method creates a list of provided elements
@@ -60,6 +63,7 @@ public class LinkedList<T> implements List<T> {
             last = newNode;
         }
         size++;
+        modCount++;
     }
 
     /**
@@ -80,6 +84,7 @@ public class LinkedList<T> implements List<T> {
             add(index, newNode);
         }
         size++;
+        modCount++;
     }
 
     private void addAsHead(Node<T> newNode) {
@@ -196,6 +201,7 @@ public class LinkedList<T> implements List<T> {
             }
         }
         size--;
+        modCount++;
         return deletedElement;
     }
 
@@ -215,7 +221,7 @@ public class LinkedList<T> implements List<T> {
     public boolean contains(T element) {
         Node<T> currentNode = first;
         while (currentNode != null) {
-            if (currentNode.value.equals(element)) {
+            if (Objects.equals(currentNode.value, element)) {
                 return true;
             }
             currentNode = currentNode.next;
@@ -250,5 +256,71 @@ public class LinkedList<T> implements List<T> {
     public void clear() {
         first = last = null;
         size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator over the list elements. It follows node links, so a full traversal takes linear time O(n),
+     * unlike a loop over {@link LinkedList#get(int)} which walks from the head on every call. The iterator is
+     * fail-fast: if the list is structurally modified after the iterator is created, in any way except through
+     * the iterator's own remove method, it throws {@link ConcurrentModificationException}.
+     *
+     * @return an iterator over the list elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new LinkedListIterator();
+    }
+
+    private class LinkedListIterator implements Iterator<T> {
+        private Node<T> next = first;
+        private Node<T> lastReturned;
+        private Node<T> beforeLastReturned;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            if (lastReturned != null) {
+                beforeLastReturned = lastReturned;
+            }
+            lastReturned = next;
+            next = next.next;
+            return lastReturned.value;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            if (beforeLastReturned == null) {
+                removeHead();
+            } else {
+                beforeLastReturned.next = next;
+                if (lastReturned == last) {
+                    last = beforeLastReturned;
+                }
+            }
+            lastReturned = null;
+            size--;
+            modCount++;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
     }
 }
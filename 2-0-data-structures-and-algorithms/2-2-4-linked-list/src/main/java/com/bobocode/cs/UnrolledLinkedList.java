@@ -0,0 +1,363 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * {@link UnrolledLinkedList} is a list implementation that is based on doubly linked nodes, where each node holds
+ * a small array of elements instead of a single one. Neighbouring elements are stored next to each other in memory,
+ * so scans like {@link UnrolledLinkedList#contains(Object)} are cache-friendly, and a list needs much fewer node
+ * objects than {@link LinkedList}.
+ * <p>
+ * When a full node receives a new element, it is split into two half-full nodes. When a node becomes less than half
+ * full after removal, it is merged with the next node if their elements fit into one node.
+ *
+ * @param <T> generic type parameter
+ */
+public class UnrolledLinkedList<T> implements List<T> {
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private static class Node {
+        private final Object[] elements;
+        private int count;
+        private Node next;
+        private Node prev;
+
+        private Node(int capacity) {
+            this.elements = new Object[capacity];
+        }
+    }
+
+    private final int nodeCapacity;
+    private Node first;
+    private Node last;
+    private int size;
+    private int modCount;
+
+    /**
+     * This constructor creates an instance of {@link UnrolledLinkedList} which nodes hold up to nodeCapacity elements.
+     *
+     * @param nodeCapacity - max number of elements in a single node
+     * @throws IllegalArgumentException – if nodeCapacity is less than 2
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Node capacity must be at least 2");
+        }
+        this.nodeCapacity = nodeCapacity;
+    }
+
+    /**
+     * This constructor creates an instance of {@link UnrolledLinkedList} which nodes hold up to 64 elements.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * This method creates a list of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new list of elements the were passed as method parameters
+     */
+    public static <T> UnrolledLinkedList<T> of(T... elements) {
+        UnrolledLinkedList<T> list = new UnrolledLinkedList<>();
+        Stream.of(elements).forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Adds an element to the end of the list.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        if (last == null || last.count == nodeCapacity) {
+            appendNode();
+        }
+        last.elements[last.count++] = element;
+        size++;
+        modCount++;
+    }
+
+    private void appendNode() {
+        Node newNode = new Node(nodeCapacity);
+        if (last == null) {
+            first = newNode;
+        } else {
+            last.next = newNode;
+            newNode.prev = last;
+        }
+        last = newNode;
+    }
+
+    /**
+     * Adds a new element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an index of new element
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        Objects.checkIndex(index, size + 1);
+        if (index == size) {
+            add(element);
+            return;
+        }
+        Node node = first;
+        int offset = index;
+        while (offset >= node.count) {
+            offset -= node.count;
+            node = node.next;
+        }
+        if (node.count == nodeCapacity) {
+            split(node);
+            if (offset > node.count) {
+                offset -= node.count;
+                node = node.next;
+            }
+        }
+        System.arraycopy(node.elements, offset, node.elements, offset + 1, node.count - offset);
+        node.elements[offset] = element;
+        node.count++;
+        size++;
+        modCount++;
+    }
+
+    private void split(Node node) {
+        Node newNode = new Node(nodeCapacity);
+        int half = node.count / 2;
+        int moved = node.count - half;
+        System.arraycopy(node.elements, half, newNode.elements, 0, moved);
+        Arrays.fill(node.elements, half, node.count, null);
+        node.count = half;
+        newNode.count = moved;
+        newNode.next = node.next;
+        newNode.prev = node;
+        if (node.next == null) {
+            last = newNode;
+        } else {
+            node.next.prev = newNode;
+        }
+        node.next = newNode;
+    }
+
+    /**
+     * Changes the value of an list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   an position of element to change
+     * @param element a new element value
+     */
+    @Override
+    public void set(int index, T element) {
+        Objects.checkIndex(index, size);
+        Node node = first;
+        int offset = index;
+        while (offset >= node.count) {
+            offset -= node.count;
+            node = node.next;
+        }
+        node.elements[offset] = element;
+    }
+
+    /**
+     * Retrieves an elements by its position index. The list skips whole nodes while searching, so it takes
+     * O(n / nodeCapacity) steps. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return an element value
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        Node node = first;
+        int offset = index;
+        while (offset >= node.count) {
+            offset -= node.count;
+            node = node.next;
+        }
+        return (T) node.elements[offset];
+    }
+
+    /**
+     * Returns the head element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the head element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getFirst() {
+        checkElementsExist();
+        return (T) first.elements[0];
+    }
+
+    /**
+     * Returns the tail element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the tail element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        checkElementsExist();
+        return (T) last.elements[last.count - 1];
+    }
+
+    private void checkElementsExist() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        Node node = first;
+        int offset = index;
+        while (offset >= node.count) {
+            offset -= node.count;
+            node = node.next;
+        }
+        T deletedElement = (T) node.elements[offset];
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.elements[--node.count] = null;
+        if (node.count == 0) {
+            unlink(node);
+        } else if (node.count < nodeCapacity / 2) {
+            mergeWithNext(node);
+        }
+        size--;
+        modCount++;
+        return deletedElement;
+    }
+
+    private void mergeWithNext(Node node) {
+        Node next = node.next;
+        if (next != null && node.count + next.count <= nodeCapacity) {
+            System.arraycopy(next.elements, 0, node.elements, node.count, next.count);
+            node.count += next.count;
+            unlink(next);
+        }
+    }
+
+    private void unlink(Node node) {
+        if (node.prev == null) {
+            first = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            last = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+
+    /**
+     * Checks if a specific exists in he list
+     *
+     * @return {@code true} if element exist, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(T element) {
+        for (Node node = first; node != null; node = node.next) {
+            Object[] elements = node.elements;
+            int count = node.count;
+            for (int i = 0; i < count; i++) {
+                Object current = elements[i];
+                if (current == element || (element != null && element.equals(current))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        first = last = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the list elements
+     *
+     * @return an iterator over the list elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new UnrolledLinkedListIterator();
+    }
+
+    private class UnrolledLinkedListIterator implements Iterator<T> {
+        private Node node = first;
+        private int offset;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return node != null && offset < node.count;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T element = (T) node.elements[offset++];
+            if (offset == node.count) {
+                node = node.next;
+                offset = 0;
+            }
+            return element;
+        }
+    }
+}
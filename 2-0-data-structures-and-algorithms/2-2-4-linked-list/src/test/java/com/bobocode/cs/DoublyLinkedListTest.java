@@ -0,0 +1,199 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class DoublyLinkedListTest {
+
+    private DoublyLinkedList<Integer> intList = new DoublyLinkedList<>();
+
+    @Test
+    void addAndGet() {
+        intList.add(1);
+        intList.add(2);
+        intList.add(3);
+
+        assertThat(intList.get(0)).isEqualTo(1);
+        assertThat(intList.get(2)).isEqualTo(3);
+        assertThat(intList.size()).isEqualTo(3);
+    }
+
+    @Test
+    void addByIndex() {
+        intList = DoublyLinkedList.of(1, 3, 5);
+
+        intList.add(0, 0);
+        intList.add(2, 2);
+        intList.add(4, 4);
+        intList.add(6, 6);
+
+        assertThat(intList.stream().collect(toList())).containsExactly(0, 1, 2, 3, 4, 5, 6);
+        assertThat(intList.getFirst()).isEqualTo(0);
+        assertThat(intList.getLast()).isEqualTo(6);
+    }
+
+    @Test
+    void addByIndexOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.add(1, 1));
+    }
+
+    @Test
+    void getNearTheTail() {
+        intList = DoublyLinkedList.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        assertThat(intList.get(8)).isEqualTo(8);
+        assertThat(intList.get(1)).isEqualTo(1);
+    }
+
+    @Test
+    void getOutOfBounds() {
+        intList = DoublyLinkedList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.get(2));
+    }
+
+    @Test
+    void set() {
+        intList = DoublyLinkedList.of(1, 2, 3);
+
+        intList.set(2, 30);
+
+        assertThat(intList.getLast()).isEqualTo(30);
+    }
+
+    @Test
+    void remove() {
+        intList = DoublyLinkedList.of(1, 2, 3, 4);
+
+        assertThat(intList.remove(2)).isEqualTo(3);
+        assertThat(intList.remove(0)).isEqualTo(1);
+
+        assertThat(intList.stream().collect(toList())).containsExactly(2, 4);
+    }
+
+    @Test
+    void removeFirstAndLast() {
+        intList = DoublyLinkedList.of(1, 2, 3);
+
+        assertThat(intList.removeLast()).isEqualTo(3);
+        assertThat(intList.removeFirst()).isEqualTo(1);
+        assertThat(intList.removeLast()).isEqualTo(2);
+
+        assertThat(intList.isEmpty()).isTrue();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.removeLast());
+    }
+
+    @Test
+    void contains() {
+        intList = DoublyLinkedList.of(1, null, 3);
+
+        assertThat(intList.contains(3)).isTrue();
+        assertThat(intList.contains(null)).isTrue();
+        assertThat(intList.contains(4)).isFalse();
+    }
+
+    @Test
+    void clear() {
+        intList = DoublyLinkedList.of(1, 2, 3);
+
+        intList.clear();
+
+        assertThat(intList.size()).isEqualTo(0);
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getFirst());
+    }
+
+    @Test
+    void listIteratorTraversesBothDirections() {
+        intList = DoublyLinkedList.of(1, 2, 3);
+        ListIterator<Integer> iterator = intList.listIterator(3);
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(iterator.previous()).isEqualTo(3);
+        assertThat(iterator.previous()).isEqualTo(2);
+        assertThat(iterator.next()).isEqualTo(2);
+        assertThat(iterator.nextIndex()).isEqualTo(2);
+        assertThat(iterator.previousIndex()).isEqualTo(1);
+    }
+
+    @Test
+    void listIteratorAddAndRemoveAtCursor() {
+        intList = DoublyLinkedList.of(1, 2, 4, 5);
+        ListIterator<Integer> iterator = intList.listIterator();
+
+        iterator.next();
+        iterator.next();
+        iterator.add(3);
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+        iterator.previous();
+        iterator.remove();
+        iterator.add(6);
+
+        assertThat(intList.stream().collect(toList())).containsExactly(1, 2, 3, 6);
+        assertThat(intList.size()).isEqualTo(4);
+        assertThat(intList.getLast()).isEqualTo(6);
+    }
+
+    @Test
+    void listIteratorSet() {
+        intList = DoublyLinkedList.of(1, 2, 3);
+        ListIterator<Integer> iterator = intList.listIterator();
+
+        while (iterator.hasNext()) {
+            iterator.set(iterator.next() * 10);
+        }
+
+        assertThat(intList.stream().collect(toList())).containsExactly(10, 20, 30);
+    }
+
+    @Test
+    void listIteratorRemoveWithoutNext() {
+        intList = DoublyLinkedList.of(1, 2);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> intList.listIterator().remove());
+    }
+
+    @Test
+    void iteratorIsFailFast() {
+        intList = DoublyLinkedList.of(1, 2);
+        ListIterator<Integer> iterator = intList.listIterator();
+
+        intList.removeLast();
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    void randomOperationsMatchJavaUtilLinkedList() {
+        java.util.LinkedList<Integer> expected = new java.util.LinkedList<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 1_000; i++) {
+            if (random.nextInt(3) > 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                intList.add(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertThat(intList.remove(index)).isEqualTo(expected.remove(index));
+            }
+        }
+
+        assertThat(intList.stream().collect(toList())).isEqualTo(expected);
+    }
+}
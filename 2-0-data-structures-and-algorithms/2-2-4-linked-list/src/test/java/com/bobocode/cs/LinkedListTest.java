@@ -8,11 +8,14 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.function.Predicate;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+import static java.util.stream.Collectors.toList;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class LinkedListTest {
@@ -491,6 +494,82 @@ public class LinkedListTest {
                 .isThrownBy(() -> getInternalElement(0));
     }
 
+    @Test
+    @Order(42)
+    void iteratorTraversesAllElements() {
+        intList = LinkedList.of(4, 5, 6);
+
+        java.util.List<Integer> elements = new java.util.ArrayList<>();
+        for (Integer element : intList) {
+            elements.add(element);
+        }
+
+        assertThat(elements).isEqualTo(java.util.List.of(4, 5, 6));
+    }
+
+    @Test
+    @Order(43)
+    void iteratorIsFailFast() {
+        intList = LinkedList.of(4, 5, 6);
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+
+        intList.add(7);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(44)
+    void iteratorRemove() {
+        intList = LinkedList.of(4, 5, 6, 7);
+        Iterator<Integer> iterator = intList.iterator();
+
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(intList.stream().collect(toList())).isEqualTo(java.util.List.of(5, 7));
+        assertThat(intList.getLast()).isEqualTo(7);
+        assertThat(intList.size()).isEqualTo(2);
+    }
+
+    @Test
+    @Order(45)
+    void iteratorRemoveTail() {
+        intList = LinkedList.of(4, 5);
+        Iterator<Integer> iterator = intList.iterator();
+        iterator.next();
+        iterator.next();
+
+        iterator.remove();
+        intList.add(6);
+
+        assertThat(intList.stream().collect(toList())).isEqualTo(java.util.List.of(4, 6));
+    }
+
+    @Test
+    @Order(46)
+    void iteratorRemoveWithoutNext() {
+        intList = LinkedList.of(4, 5);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> intList.iterator().remove());
+    }
+
+    @Test
+    @Order(47)
+    void containsWithNullElements() {
+        intList = LinkedList.of(1, null, 3);
+
+        assertThat(intList.contains(null)).isTrue();
+        assertThat(intList.contains(3)).isTrue();
+        assertThat(intList.contains(4)).isFalse();
+    }
+
     @SneakyThrows
     private int getInternalElement(int index) {
 
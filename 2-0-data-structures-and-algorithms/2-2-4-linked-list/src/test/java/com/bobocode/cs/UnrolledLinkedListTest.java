@@ -0,0 +1,161 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class UnrolledLinkedListTest {
+
+    private UnrolledLinkedList<Integer> intList = new UnrolledLinkedList<>(4);
+
+    @Test
+    void addFillsSeveralNodes() {
+        for (int i = 0; i < 10; i++) {
+            intList.add(i);
+        }
+
+        assertThat(intList.size()).isEqualTo(10);
+        assertThat(intList.stream().collect(toList())).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    void addByIndexSplitsFullNode() {
+        addElements(0, 1, 2, 3);
+
+        intList.add(1, 10);
+        intList.add(4, 20);
+        intList.add(0, 30);
+
+        assertThat(intList.stream().collect(toList())).containsExactly(30, 0, 10, 1, 2, 20, 3);
+        assertThat(intList.getFirst()).isEqualTo(30);
+        assertThat(intList.getLast()).isEqualTo(3);
+    }
+
+    @Test
+    void addByIndexOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.add(1, 1));
+    }
+
+    @Test
+    void getAndSet() {
+        addElements(0, 1, 2, 3, 4, 5, 6, 7, 8);
+
+        intList.set(7, 70);
+
+        assertThat(intList.get(7)).isEqualTo(70);
+        assertThat(intList.get(8)).isEqualTo(8);
+    }
+
+    @Test
+    void getOutOfBounds() {
+        addElements(0, 1);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.get(2));
+    }
+
+    @Test
+    void removeMergesAndUnlinksNodes() {
+        addElements(0, 1, 2, 3, 4, 5, 6, 7, 8);
+
+        assertThat(intList.remove(8)).isEqualTo(8);
+        assertThat(intList.remove(0)).isEqualTo(0);
+        assertThat(intList.remove(0)).isEqualTo(1);
+        assertThat(intList.remove(0)).isEqualTo(2);
+
+        assertThat(intList.stream().collect(toList())).containsExactly(3, 4, 5, 6, 7);
+        assertThat(intList.getLast()).isEqualTo(7);
+    }
+
+    @Test
+    void removeAllElements() {
+        addElements(0, 1, 2, 3, 4);
+
+        for (int i = 0; i < 5; i++) {
+            intList.remove(0);
+        }
+
+        assertThat(intList.isEmpty()).isTrue();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getLast());
+        intList.add(1);
+        assertThat(intList.getFirst()).isEqualTo(1);
+    }
+
+    @Test
+    void contains() {
+        addElements(0, 1, null, 3, 4, 5);
+
+        assertThat(intList.contains(5)).isTrue();
+        assertThat(intList.contains(null)).isTrue();
+        assertThat(intList.contains(6)).isFalse();
+    }
+
+    @Test
+    void clear() {
+        addElements(0, 1, 2);
+
+        intList.clear();
+
+        assertThat(intList.size()).isEqualTo(0);
+        assertThat(intList.contains(1)).isFalse();
+    }
+
+    @Test
+    void iteratorIsFailFast() {
+        addElements(0, 1, 2);
+        Iterator<Integer> iterator = intList.iterator();
+
+        intList.add(3);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    void wrongNodeCapacity() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new UnrolledLinkedList<>(1));
+    }
+
+    @Test
+    void randomOperationsMatchJavaUtilArrayList() {
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 3_000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                intList.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                assertThat(intList.remove(index)).isEqualTo(expected.remove(index));
+            } else {
+                expected.add(i);
+                intList.add(i);
+            }
+        }
+
+        assertThat(intList.size()).isEqualTo(expected.size());
+        assertThat(intList.stream().collect(toList())).isEqualTo(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(intList.get(i)).isEqualTo(expected.get(i));
+        }
+    }
+
+    private void addElements(Integer... elements) {
+        for (Integer element : elements) {
+            intList.add(element);
+        }
+    }
+}
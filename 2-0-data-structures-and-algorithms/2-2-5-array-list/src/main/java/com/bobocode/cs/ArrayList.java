@@ -1,8 +1,13 @@
 package com.bobocode.cs;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * {@link ArrayList} is an implementation of {@link List} interface. This resizable data structure
@@ -10,22 +15,38 @@ import java.util.Objects;
  */
 public class ArrayList<T> implements List<T> {
     private static final int DEFAULT_CAPACITY = 5;
+    private final GrowthStrategy growthStrategy;
     private Object[] elementData;
     private int size;
+    private int modCount;
 
     /**
-     * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside.
+     * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside and
+     * a specific strategy of its growth.
      *
-     * @param initCapacity - the initial capacity of the list
+     * @param initCapacity   - the initial capacity of the list
+     * @param growthStrategy - the strategy that computes a new capacity when the array is full
      * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
      */
-    public ArrayList(int initCapacity) {
+    public ArrayList(int initCapacity, GrowthStrategy growthStrategy) {
         if (initCapacity <= 0) {
             throw new IllegalArgumentException();
         }
+        this.growthStrategy = Objects.requireNonNull(growthStrategy);
         elementData = new Object[initCapacity];
     }
 
+    /**
+     * This constructor creates an instance of {@link ArrayList} with a specific capacity of an array inside.
+     * The array is doubled every time it gets full.
+     *
+     * @param initCapacity - the initial capacity of the list
+     * @throws IllegalArgumentException – if the specified initial capacity is negative or 0.
+     */
+    public ArrayList(int initCapacity) {
+        this(initCapacity, GrowthStrategy.doubling());
+    }
+
     /**
      * This constructor creates an instance of {@link ArrayList} with a default capacity of an array inside.
      * A default size of inner array is 5;
@@ -54,14 +75,30 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public void add(T element) {
-        increaseDataArrayIfFull();
+        ensureCapacity(size + 1);
         elementData[size] = element;
         size++;
+        modCount++;
+    }
+
+    /**
+     * Increases the capacity of the inner array, if necessary, so it can hold at least minCapacity elements
+     * without further resizing. Use it before bulk loads to avoid repeated array copies.
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (elementData.length < minCapacity) {
+            elementData = Arrays.copyOf(elementData, growthStrategy.newCapacity(elementData.length, minCapacity));
+        }
     }
 
-    private void increaseDataArrayIfFull() {
-        if (elementData.length == size) {
-            elementData = Arrays.copyOf(elementData, size * 2);
+    /**
+     * Trims the capacity of the inner array to the current size of the list, so it does not hold unused memory.
+     */
+    public void trimToSize() {
+        if (elementData.length > size) {
+            elementData = Arrays.copyOf(elementData, size);
         }
     }
 
@@ -73,10 +110,42 @@ public class ArrayList<T> implements List<T> {
      */
     @Override
     public void add(int index, T element) {
-        increaseDataArrayIfFull();
+        ensureCapacity(size + 1);
         System.arraycopy(elementData, index, elementData, index + 1, size - index);
         elementData[index] = element;
         size++;
+        modCount++;
+    }
+
+    /**
+     * Adds all elements of the collection to the end of the array. The array is resized at most once and elements
+     * are copied with a single {@link System#arraycopy(Object, int, Object, int, int)}.
+     *
+     * @param elements elements to add
+     */
+    public void addAll(Collection<? extends T> elements) {
+        Object[] newElements = elements.toArray();
+        ensureCapacity(size + newElements.length);
+        System.arraycopy(newElements, 0, elementData, size, newElements.length);
+        size += newElements.length;
+        modCount++;
+    }
+
+    /**
+     * Adds all elements to the specific position in the array. The tail of the array is shifted to the right only
+     * once, no matter how many elements are added. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index    index of position of the first added element
+     * @param elements elements to add
+     */
+    public void addAll(int index, T[] elements) {
+        Objects.checkIndex(index, size + 1);
+        ensureCapacity(size + elements.length);
+        System.arraycopy(elementData, index, elementData, index + elements.length, size - index);
+        System.arraycopy(elements, 0, elementData, index, elements.length);
+        size += elements.length;
+        modCount++;
     }
 
     /**
@@ -153,9 +222,27 @@ public class ArrayList<T> implements List<T> {
         }
         elementData[size - 1] = null;
         size--;
+        modCount++;
         return deletedElement;
     }
 
+    /**
+     * Removes all elements which position index is between fromIndex, inclusive, and toIndex, exclusive. The tail of
+     * the array is shifted to the left only once. In case provided indexes are out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param fromIndex index of the first element to remove
+     * @param toIndex   index after the last element to remove
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        System.arraycopy(elementData, toIndex, elementData, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elementData, newSize, size, null);
+        size = newSize;
+        modCount++;
+    }
+
     /**
      * Checks for existing of a specific element in the list.
      *
@@ -165,7 +252,7 @@ public class ArrayList<T> implements List<T> {
     @Override
     public boolean contains(T element) {
         for (int i = 0; i < size; i++) {
-            if (elementData[i].equals(element)) {
+            if (Objects.equals(elementData[i], element)) {
                 return true;
             }
         }
@@ -197,5 +284,134 @@ public class ArrayList<T> implements List<T> {
     public void clear() {
         elementData = new Object[DEFAULT_CAPACITY];
         size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator over the list elements. The iterator is fail-fast: if the list is structurally modified
+     * after the iterator is created, in any way except through the iterator's own remove method, it throws
+     * {@link ConcurrentModificationException}.
+     *
+     * @return an iterator over the list elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new ArrayListIterator();
+    }
+
+    /**
+     * Returns a fail-fast {@link Spliterator} over the list elements. It reports {@link Spliterator#SIZED},
+     * {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}, and splits the array range in halves, so
+     * {@link List#parallelStream()} distributes elements evenly between threads.
+     *
+     * @return a spliterator over the list elements
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArrayListSpliterator(0, size, modCount);
+    }
+
+    private class ArrayListIterator implements Iterator<T> {
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor++;
+            return (T) elementData[lastReturned];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            ArrayList.this.remove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class ArrayListSpliterator implements Spliterator<T> {
+        private int index;
+        private final int fence;
+        private final int expectedModCount;
+
+        private ArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            if (index < fence) {
+                T element = (T) elementData[index++];
+                action.accept(element);
+                checkForComodification();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            Object[] data = elementData;
+            for (int i = index; i < fence; i++) {
+                action.accept((T) data[i]);
+            }
+            index = fence;
+            checkForComodification();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int middle = (index + fence) >>> 1;
+            if (index >= middle) {
+                return null;
+            }
+            ArrayListSpliterator prefix = new ArrayListSpliterator(index, middle, expectedModCount);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
     }
 }
\ No newline at end of file
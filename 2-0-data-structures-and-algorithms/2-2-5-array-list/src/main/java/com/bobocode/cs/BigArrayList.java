@@ -0,0 +1,365 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link BigArrayList} is a segmented implementation of {@link List} interface. Elements are stored in fixed-size
+ * chunks, so growing the list appends a new chunk instead of copying all the elements into a bigger array. A chunk size
+ * is a power of two, so an element position is found with a shift and a mask in constant time O(1).
+ * <p>
+ * Since the size of the list is not limited by the length of a single array, it can hold more than
+ * {@link Integer#MAX_VALUE} elements. Such elements are accessed by methods that accept {@code long} indexes.
+ *
+ * @param <T> generic type parameter
+ */
+public class BigArrayList<T> implements List<T> {
+    private static final int DEFAULT_CHUNK_SHIFT = 14;
+    private static final int MAX_CHUNK_SHIFT = 30;
+    private static final int INITIAL_CHUNKS_CAPACITY = 4;
+
+    private final int chunkShift;
+    private final int chunkSize;
+    private final int chunkMask;
+    private Object[][] chunks;
+    private int chunkCount;
+    private long size;
+    private int modCount;
+
+    /**
+     * This constructor creates an instance of {@link BigArrayList} which chunks hold 2^chunkShift elements.
+     *
+     * @param chunkShift - the binary logarithm of chunk size
+     * @throws IllegalArgumentException – if chunkShift is not between 1 and 30
+     */
+    public BigArrayList(int chunkShift) {
+        if (chunkShift < 1 || chunkShift > MAX_CHUNK_SHIFT) {
+            throw new IllegalArgumentException("Chunk shift must be between 1 and " + MAX_CHUNK_SHIFT);
+        }
+        this.chunkShift = chunkShift;
+        this.chunkSize = 1 << chunkShift;
+        this.chunkMask = chunkSize - 1;
+        this.chunks = new Object[INITIAL_CHUNKS_CAPACITY][];
+    }
+
+    /**
+     * This constructor creates an instance of {@link BigArrayList} with a default chunk size which is 16384 elements.
+     */
+    public BigArrayList() {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Creates and returns an instance of {@link BigArrayList} with provided elements
+     *
+     * @param elements to add
+     * @return new instance
+     */
+    public static <T> BigArrayList<T> of(T... elements) {
+        BigArrayList<T> list = new BigArrayList<>();
+        for (T element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    private int chunkIndex(long index) {
+        return (int) (index >>> chunkShift);
+    }
+
+    private int offset(long index) {
+        return (int) (index & chunkMask);
+    }
+
+    private static void checkIndex(long index, long length) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for length %d", index, length));
+        }
+    }
+
+    private void ensureCapacityForOneMore() {
+        if (size == (long) chunkCount << chunkShift) {
+            if (chunkCount == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunks.length * 2);
+            }
+            chunks[chunkCount++] = new Object[chunkSize];
+        }
+    }
+
+    /**
+     * Adds an element to the end of the list. When the last chunk is full, a new chunk is appended and no elements
+     * are copied.
+     *
+     * @param element element to add
+     */
+    @Override
+    public void add(T element) {
+        ensureCapacityForOneMore();
+        chunks[chunkIndex(size)][offset(size)] = element;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Adds an element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    @Override
+    public void add(int index, T element) {
+        add((long) index, element);
+    }
+
+    /**
+     * Adds an element to the specific position in the list. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   index of position
+     * @param element element to add
+     */
+    public void add(long index, T element) {
+        checkIndex(index, size + 1);
+        ensureCapacityForOneMore();
+        shiftRight(index);
+        chunks[chunkIndex(index)][offset(index)] = element;
+        size++;
+        modCount++;
+    }
+
+    private void shiftRight(long index) {
+        int firstChunk = chunkIndex(index);
+        int lastChunk = chunkIndex(size);
+        for (int i = lastChunk; i > firstChunk; i--) {
+            Object[] chunk = chunks[i];
+            int length = i == lastChunk ? offset(size) : chunkSize - 1;
+            System.arraycopy(chunk, 0, chunk, 1, length);
+            chunk[0] = chunks[i - 1][chunkMask];
+        }
+        Object[] chunk = chunks[firstChunk];
+        int from = offset(index);
+        int end = firstChunk == lastChunk ? offset(size) : chunkSize - 1;
+        System.arraycopy(chunk, from, chunk, from + 1, end - from);
+    }
+
+    /**
+     * Retrieves an element by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return en element
+     */
+    @Override
+    public T get(int index) {
+        return get((long) index);
+    }
+
+    /**
+     * Retrieves an element by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index index of element
+     * @return en element
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long index) {
+        checkIndex(index, size);
+        return (T) chunks[chunkIndex(index)][offset(index)];
+    }
+
+    /**
+     * Returns the first element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the first element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(0L);
+    }
+
+    /**
+     * Returns the last element of the list. Operation is performed in constant time O(1)
+     *
+     * @return the last element of the list
+     * @throws java.util.NoSuchElementException if list is empty
+     */
+    @Override
+    public T getLast() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return get(size - 1);
+    }
+
+    /**
+     * Changes the value of the list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    @Override
+    public void set(int index, T element) {
+        set((long) index, element);
+    }
+
+    /**
+     * Changes the value of the list element at specific position. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index   position of value
+     * @param element a new value
+     */
+    public void set(long index, T element) {
+        checkIndex(index, size);
+        chunks[chunkIndex(index)][offset(index)] = element;
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    @Override
+    public T remove(int index) {
+        return remove((long) index);
+    }
+
+    /**
+     * Removes an elements by its position index. In case provided index in out of the list bounds it
+     * throws {@link IndexOutOfBoundsException}
+     *
+     * @param index element index
+     * @return deleted element
+     */
+    public T remove(long index) {
+        T deletedElement = get(index);
+        shiftLeft(index);
+        size--;
+        modCount++;
+        return deletedElement;
+    }
+
+    private void shiftLeft(long index) {
+        long lastIndex = size - 1;
+        int firstChunk = chunkIndex(index);
+        int lastChunk = chunkIndex(lastIndex);
+        Object[] chunk = chunks[firstChunk];
+        int from = offset(index);
+        int end = firstChunk == lastChunk ? offset(lastIndex) : chunkMask;
+        System.arraycopy(chunk, from + 1, chunk, from, end - from);
+        for (int i = firstChunk + 1; i <= lastChunk; i++) {
+            chunk = chunks[i];
+            chunks[i - 1][chunkMask] = chunk[0];
+            int length = i == lastChunk ? offset(lastIndex) : chunkMask;
+            System.arraycopy(chunk, 1, chunk, 0, length);
+        }
+        chunks[lastChunk][offset(lastIndex)] = null;
+    }
+
+    /**
+     * Checks for existing of a specific element in the list.
+     *
+     * @param element is element
+     * @return If element exists method returns true, otherwise it returns false
+     */
+    @Override
+    public boolean contains(T element) {
+        long remaining = size;
+        for (int i = 0; remaining > 0; i++) {
+            Object[] chunk = chunks[i];
+            int length = (int) Math.min(remaining, chunkSize);
+            for (int j = 0; j < length; j++) {
+                if (Objects.equals(chunk[j], element)) {
+                    return true;
+                }
+            }
+            remaining -= length;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a list is empty
+     *
+     * @return {@code true} if list is empty, {@code false} otherwise
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the list. If the list contains more than {@link Integer#MAX_VALUE} elements,
+     * returns {@link Integer#MAX_VALUE}, use {@link BigArrayList#longSize()} to get the exact size.
+     *
+     * @return amount of saved elements
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return amount of saved elements
+     */
+    public long longSize() {
+        return size;
+    }
+
+    /**
+     * Removes all list elements
+     */
+    @Override
+    public void clear() {
+        chunks = new Object[INITIAL_CHUNKS_CAPACITY][];
+        chunkCount = 0;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an iterator over the list elements. The iterator is fail-fast: if the list is structurally modified
+     * after the iterator is created, it throws {@link ConcurrentModificationException}.
+     *
+     * @return an iterator over the list elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new BigArrayListIterator();
+    }
+
+    private class BigArrayListIterator implements Iterator<T> {
+        private long cursor;
+        private final int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            T element = (T) chunks[chunkIndex(cursor)][offset(cursor)];
+            cursor++;
+            return element;
+        }
+    }
+}
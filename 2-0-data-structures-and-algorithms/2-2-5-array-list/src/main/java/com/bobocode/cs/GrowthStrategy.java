@@ -0,0 +1,62 @@
+package com.bobocode.cs;
+
+/**
+ * {@link GrowthStrategy} decides how much an array-based list grows when its inner array is full. Growing more
+ * aggressively means fewer array copies at the cost of more unused memory.
+ */
+@FunctionalInterface
+public interface GrowthStrategy {
+    /**
+     * The biggest array size that is supported by most JVMs
+     */
+    int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Computes a new capacity of the inner array.
+     *
+     * @param currentCapacity current length of the inner array
+     * @param minCapacity     the smallest capacity that is required
+     * @return a new capacity that is not less than minCapacity
+     */
+    int newCapacity(int currentCapacity, int minCapacity);
+
+    /**
+     * Grows an array twice. It is the default strategy of {@link ArrayList}.
+     *
+     * @return a strategy that doubles capacity
+     */
+    static GrowthStrategy doubling() {
+        return (currentCapacity, minCapacity) -> atLeast(minCapacity, (long) currentCapacity * 2);
+    }
+
+    /**
+     * Grows an array by half of its current capacity, the same way {@link java.util.ArrayList} does.
+     *
+     * @return a strategy that multiplies capacity by 1.5
+     */
+    static GrowthStrategy oneAndHalf() {
+        return (currentCapacity, minCapacity) -> atLeast(minCapacity, currentCapacity + (long) (currentCapacity >> 1));
+    }
+
+    /**
+     * Grows an array by a fixed amount of elements. It keeps memory overhead bounded by chunk size, but makes
+     * a series of single adds to copy the array more often.
+     *
+     * @param chunkSize amount of elements to add on every growth
+     * @return a strategy that adds a fixed chunk to capacity
+     * @throws IllegalArgumentException if chunkSize is negative or 0
+     */
+    static GrowthStrategy fixedChunk(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        return (currentCapacity, minCapacity) -> atLeast(minCapacity, currentCapacity + (long) chunkSize);
+    }
+
+    private static int atLeast(int minCapacity, long preferredCapacity) {
+        if (minCapacity < 0) {
+            throw new OutOfMemoryError("Required array size is too large");
+        }
+        return (int) Math.max(minCapacity, Math.min(preferredCapacity, MAX_ARRAY_SIZE));
+    }
+}
@@ -7,10 +7,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
 import java.lang.reflect.Field;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatExceptionOfType;
+import static java.util.stream.Collectors.toList;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 class ArrayListTest {
@@ -353,6 +357,191 @@ class ArrayListTest {
                 .isThrownBy(() -> arrayList.get(0));
     }
 
+    @Test
+    @Order(37)
+    void ensureCapacityResizesArrayOnce() {
+        arrayList = new ArrayList<>(2);
+
+        ((ArrayList<Integer>) arrayList).ensureCapacity(100);
+
+        assertThat(getTestArray().length).isGreaterThanOrEqualTo(100);
+        assertThat(arrayList.size()).isEqualTo(0);
+    }
+
+    @Test
+    @Order(38)
+    void trimToSize() {
+        arrayList = new ArrayList<>(100);
+        arrayList.add(1);
+        arrayList.add(2);
+
+        ((ArrayList<Integer>) arrayList).trimToSize();
+
+        assertThat(getTestArray().length).isEqualTo(2);
+        arrayList.add(3);
+        assertThat(arrayList.getLast()).isEqualTo(3);
+    }
+
+    @Test
+    @Order(39)
+    void addAllCollection() {
+        arrayList = new ArrayList<>(2);
+        arrayList.add(1);
+
+        ((ArrayList<Integer>) arrayList).addAll(java.util.List.of(2, 3, 4, 5));
+
+        assertThat(arrayList.size()).isEqualTo(5);
+        assertThat(getTestArray()).startsWith(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    @Order(40)
+    void addAllByIndex() {
+        arrayList = ArrayList.of(1, 2, 6);
+
+        ((ArrayList<Integer>) arrayList).addAll(2, new Integer[]{3, 4, 5});
+
+        assertThat(arrayList.size()).isEqualTo(6);
+        assertThat(getTestArray()).startsWith(1, 2, 3, 4, 5, 6);
+    }
+
+    @Test
+    @Order(41)
+    void addAllByIndexOutOfBounds() {
+        arrayList = ArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> ((ArrayList<Integer>) arrayList).addAll(3, new Integer[]{3}));
+    }
+
+    @Test
+    @Order(42)
+    void removeRange() {
+        arrayList = ArrayList.of(1, 2, 3, 4, 5, 6);
+
+        ((ArrayList<Integer>) arrayList).removeRange(1, 4);
+
+        assertThat(arrayList.size()).isEqualTo(3);
+        assertThat(getTestArray()).containsExactly(1, 5, 6, null, null, null);
+    }
+
+    @Test
+    @Order(43)
+    void removeRangeWithWrongIndexes() {
+        arrayList = ArrayList.of(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> ((ArrayList<Integer>) arrayList).removeRange(2, 4));
+    }
+
+    @Test
+    @Order(44)
+    void oneAndHalfGrowthStrategy() {
+        arrayList = new ArrayList<>(10, GrowthStrategy.oneAndHalf());
+
+        for (int i = 0; i < 11; i++) {
+            arrayList.add(i);
+        }
+
+        assertThat(getTestArray().length).isEqualTo(15);
+    }
+
+    @Test
+    @Order(45)
+    void fixedChunkGrowthStrategy() {
+        arrayList = new ArrayList<>(10, GrowthStrategy.fixedChunk(4));
+
+        for (int i = 0; i < 11; i++) {
+            arrayList.add(i);
+        }
+
+        assertThat(getTestArray().length).isEqualTo(14);
+    }
+
+    @Test
+    @Order(46)
+    void fixedChunkGrowthStrategyWithWrongChunkSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> GrowthStrategy.fixedChunk(0));
+    }
+
+    @Test
+    @Order(47)
+    void iteratorTraversesAllElements() {
+        arrayList = ArrayList.of(4, 5, 6);
+
+        java.util.List<Integer> elements = new java.util.ArrayList<>();
+        for (Integer element : arrayList) {
+            elements.add(element);
+        }
+
+        assertThat(elements).isEqualTo(java.util.List.of(4, 5, 6));
+    }
+
+    @Test
+    @Order(48)
+    void iteratorIsFailFast() {
+        arrayList = ArrayList.of(4, 5, 6);
+        Iterator<Integer> iterator = arrayList.iterator();
+        iterator.next();
+
+        arrayList.remove(0);
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    @Order(49)
+    void iteratorRemove() {
+        arrayList = ArrayList.of(4, 5, 6, 7);
+        Iterator<Integer> iterator = arrayList.iterator();
+
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(arrayList.stream().collect(toList())).isEqualTo(java.util.List.of(5, 7));
+    }
+
+    @Test
+    @Order(50)
+    void spliteratorIsSizedAndSplitsInHalves() {
+        arrayList = ArrayList.of(1, 2, 3, 4, 5, 6, 7, 8);
+        Spliterator<Integer> spliterator = arrayList.spliterator();
+
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+        assertThat(prefix.estimateSize()).isEqualTo(4);
+        assertThat(spliterator.estimateSize()).isEqualTo(4);
+    }
+
+    @Test
+    @Order(51)
+    void parallelStream() {
+        arrayList = new ArrayList<>();
+        for (int i = 1; i <= 10_000; i++) {
+            arrayList.add(i);
+        }
+
+        long sum = arrayList.parallelStream().mapToLong(Integer::longValue).sum();
+
+        assertThat(sum).isEqualTo(50_005_000L);
+    }
+
+    @Test
+    @Order(52)
+    void containsWithNullElements() {
+        arrayList = ArrayList.of(1, null, 3);
+
+        assertThat(arrayList.contains(null)).isTrue();
+        assertThat(arrayList.contains(3)).isTrue();
+        assertThat(arrayList.contains(4)).isFalse();
+    }
+
     @SneakyThrows
     private void setTestSize(int size) {
         Field sizeField = arrayList.getClass().getDeclaredField("size");
@@ -0,0 +1,151 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BigArrayListTest {
+
+    private BigArrayList<Integer> bigList = new BigArrayList<>(2);
+
+    @Test
+    void addGrowsByChunks() {
+        for (int i = 0; i < 10; i++) {
+            bigList.add(i);
+        }
+
+        assertThat(bigList.size()).isEqualTo(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(bigList.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void addByIndexAcrossChunks() {
+        bigList = listOf(0, 1, 2, 3, 5, 6, 7, 8, 9);
+
+        bigList.add(4, 4);
+        bigList.add(0, -1);
+        bigList.add(11, 10);
+
+        assertContent(-1, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+
+    @Test
+    void addByIndexOutOfBounds() {
+        bigList = listOf(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> bigList.add(3, 3));
+    }
+
+    @Test
+    void removeAcrossChunks() {
+        bigList = listOf(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        assertThat(bigList.remove(1)).isEqualTo(1);
+        assertThat(bigList.remove(8)).isEqualTo(9);
+        assertThat(bigList.remove(3)).isEqualTo(4);
+
+        assertContent(0, 2, 3, 5, 6, 7, 8);
+    }
+
+    @Test
+    void removeOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> bigList.remove(0));
+    }
+
+    @Test
+    void setAndGetByLongIndex() {
+        bigList = listOf(1, 2, 3, 4, 5);
+
+        bigList.set(4L, 50);
+
+        assertThat(bigList.get(4L)).isEqualTo(50);
+        assertThat(bigList.longSize()).isEqualTo(5L);
+    }
+
+    @Test
+    void getFirstAndLast() {
+        bigList = listOf(1, 2, 3, 4, 5);
+
+        assertThat(bigList.getFirst()).isEqualTo(1);
+        assertThat(bigList.getLast()).isEqualTo(5);
+    }
+
+    @Test
+    void getFirstOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> bigList.getFirst());
+    }
+
+    @Test
+    void contains() {
+        bigList = listOf(1, null, 3, 4, 5, 6);
+
+        assertThat(bigList.contains(6)).isTrue();
+        assertThat(bigList.contains(null)).isTrue();
+        assertThat(bigList.contains(7)).isFalse();
+    }
+
+    @Test
+    void clear() {
+        bigList = listOf(1, 2, 3, 4, 5);
+
+        bigList.clear();
+
+        assertThat(bigList.isEmpty()).isTrue();
+        assertThat(bigList.contains(1)).isFalse();
+        bigList.add(6);
+        assertThat(bigList.getFirst()).isEqualTo(6);
+    }
+
+    @Test
+    void wrongChunkShift() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new BigArrayList<>(0));
+    }
+
+    @Test
+    void randomOperationsMatchJavaUtilArrayList() {
+        java.util.List<Integer> expected = new java.util.ArrayList<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 2_000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                bigList.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                assertThat(bigList.remove(index)).isEqualTo(expected.remove(index));
+            } else {
+                expected.add(i);
+                bigList.add(i);
+            }
+        }
+
+        assertContent(expected.toArray(new Integer[0]));
+    }
+
+    private BigArrayList<Integer> listOf(Integer... elements) {
+        BigArrayList<Integer> list = new BigArrayList<>(2);
+        for (Integer element : elements) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    private void assertContent(Integer... elements) {
+        assertThat(bigList.size()).isEqualTo(elements.length);
+        for (int i = 0; i < elements.length; i++) {
+            assertThat(bigList.get(i)).isEqualTo(elements[i]);
+        }
+    }
+}
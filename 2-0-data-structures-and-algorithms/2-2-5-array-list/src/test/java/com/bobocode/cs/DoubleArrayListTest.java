@@ -0,0 +1,41 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DoubleArrayListTest {
+
+    private DoubleList doubleList = new DoubleArrayList();
+
+    @Test
+    void addAllAndGet() {
+        doubleList.addAll(new double[]{0.5, 1.5, 2.5, 3.5, 4.5, 5.5});
+
+        assertThat(doubleList.get(3)).isEqualTo(3.5);
+        assertThat(doubleList.size()).isEqualTo(6);
+    }
+
+    @Test
+    void containsNaN() {
+        doubleList = DoubleArrayList.of(1.0, Double.NaN);
+
+        assertThat(doubleList.contains(Double.NaN)).isTrue();
+    }
+
+    @Test
+    void containsDistinguishesSignedZero() {
+        doubleList = DoubleArrayList.of(0.0);
+
+        assertThat(doubleList.contains(0.0)).isTrue();
+        assertThat(doubleList.contains(-0.0)).isFalse();
+    }
+
+    @Test
+    void removeAndToArray() {
+        doubleList = DoubleArrayList.of(1.0, 2.0, 3.0);
+
+        assertThat(doubleList.remove(1)).isEqualTo(2.0);
+        assertThat(doubleList.toArray()).containsExactly(1.0, 3.0);
+    }
+}
@@ -0,0 +1,142 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IntArrayListTest {
+
+    private IntList intList = new IntArrayList();
+
+    @Test
+    void addAndGet() {
+        intList.add(10);
+        intList.add(15);
+        intList.add(20);
+
+        assertThat(intList.get(0)).isEqualTo(10);
+        assertThat(intList.get(1)).isEqualTo(15);
+        assertThat(intList.get(2)).isEqualTo(20);
+        assertThat(intList.size()).isEqualTo(3);
+    }
+
+    @Test
+    void addResizesInnerArray() {
+        for (int i = 0; i < 100; i++) {
+            intList.add(i);
+        }
+
+        assertThat(intList.size()).isEqualTo(100);
+        assertThat(intList.getLast()).isEqualTo(99);
+    }
+
+    @Test
+    void addByIndex() {
+        intList = IntArrayList.of(1, 2, 4);
+
+        intList.add(2, 3);
+        intList.add(0, 0);
+        intList.add(5, 5);
+
+        assertThat(intList.toArray()).containsExactly(0, 1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void addByIndexOutOfBounds() {
+        intList = IntArrayList.of(1, 2);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.add(3, 3));
+    }
+
+    @Test
+    void addAll() {
+        intList.add(1);
+
+        intList.addAll(new int[]{2, 3, 4, 5, 6, 7});
+
+        assertThat(intList.toArray()).containsExactly(1, 2, 3, 4, 5, 6, 7);
+    }
+
+    @Test
+    void ofEmptyArray() {
+        intList = IntArrayList.of();
+
+        assertThat(intList.isEmpty()).isTrue();
+        intList.add(1);
+        assertThat(intList.getFirst()).isEqualTo(1);
+    }
+
+    @Test
+    void set() {
+        intList = IntArrayList.of(1, 2, 3);
+
+        intList.set(1, 20);
+
+        assertThat(intList.get(1)).isEqualTo(20);
+    }
+
+    @Test
+    void getOutOfBounds() {
+        intList = IntArrayList.of(1, 2, 3);
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> intList.get(3));
+    }
+
+    @Test
+    void getFirstAndLastOfEmptyList() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getFirst());
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> intList.getLast());
+    }
+
+    @Test
+    void remove() {
+        intList = IntArrayList.of(1, 2, 3, 4);
+
+        int removed = intList.remove(1);
+
+        assertThat(removed).isEqualTo(2);
+        assertThat(intList.toArray()).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    void removeLast() {
+        intList = IntArrayList.of(1, 2, 3);
+
+        assertThat(intList.remove(2)).isEqualTo(3);
+        assertThat(intList.toArray()).containsExactly(1, 2);
+    }
+
+    @Test
+    void contains() {
+        intList = IntArrayList.of(5, 10, 15);
+
+        assertThat(intList.contains(10)).isTrue();
+        assertThat(intList.contains(7)).isFalse();
+    }
+
+    @Test
+    void containsDoesNotSeeClearedElements() {
+        intList = IntArrayList.of(5, 10, 15);
+        intList.clear();
+
+        assertThat(intList.contains(10)).isFalse();
+        assertThat(intList.size()).isEqualTo(0);
+    }
+
+    @Test
+    void toArrayReturnsCopy() {
+        intList = IntArrayList.of(1, 2, 3);
+
+        int[] array = intList.toArray();
+        array[0] = 100;
+
+        assertThat(intList.get(0)).isEqualTo(1);
+    }
+}
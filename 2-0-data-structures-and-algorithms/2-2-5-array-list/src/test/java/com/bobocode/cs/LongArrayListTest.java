@@ -0,0 +1,45 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class LongArrayListTest {
+
+    private LongList longList = new LongArrayList();
+
+    @Test
+    void addAndGetValuesOutOfIntRange() {
+        longList.add(Long.MAX_VALUE);
+        longList.add(Long.MIN_VALUE);
+
+        assertThat(longList.get(0)).isEqualTo(Long.MAX_VALUE);
+        assertThat(longList.get(1)).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void addAllAndRemove() {
+        longList.addAll(new long[]{1L, 2L, 3L, 4L, 5L, 6L, 7L});
+
+        assertThat(longList.remove(0)).isEqualTo(1L);
+        assertThat(longList.toArray()).containsExactly(2L, 3L, 4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void addByIndexAndContains() {
+        longList = LongArrayList.of(1L, 3L);
+
+        longList.add(1, 2L);
+
+        assertThat(longList.contains(2L)).isTrue();
+        assertThat(longList.contains(4L)).isFalse();
+        assertThat(longList.toArray()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void setOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> longList.set(0, 1L));
+    }
+}
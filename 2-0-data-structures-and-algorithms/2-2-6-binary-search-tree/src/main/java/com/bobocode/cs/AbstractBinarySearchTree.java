@@ -0,0 +1,191 @@
+package com.bobocode.cs;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link AbstractBinarySearchTree} implements the operations that only read a binary search tree, e.g. navigation,
+ * range traversal and iteration, so the trees share them regardless of how they insert elements and keep balance.
+ * A tree exposes its nodes through {@link AbstractBinarySearchTree#root()},
+ * {@link AbstractBinarySearchTree#left(Object)}, {@link AbstractBinarySearchTree#right(Object)} and
+ * {@link AbstractBinarySearchTree#value(Object)}, where null stands for a missing node.
+ * <p>
+ * All operations use loops instead of recursion, so they never throw {@link StackOverflowError}, no matter how deep
+ * the tree is.
+ *
+ * @param <T> a type of elements that have natural order
+ * @param <N> a type of tree nodes
+ */
+abstract class AbstractBinarySearchTree<T extends Comparable<T>, N> implements Iterable<T> {
+
+    abstract N root();
+
+    abstract N left(N node);
+
+    abstract N right(N node);
+
+    abstract T value(N node);
+
+    /**
+     * Is implemented by every tree with a loop over its own node fields rather than over the accessors, since lookups
+     * are the hot path, and the accessor calls of a loop that several trees share cannot be inlined.
+     *
+     * @return true if tree contains element
+     */
+    public abstract boolean contains(T element);
+
+    /**
+     * @return the greatest element less than or equal to the given one, or null if there is no such element
+     */
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        T floor = null;
+        N node = root();
+        while (node != null) {
+            int comparison = element.compareTo(value(node));
+            if (comparison > 0) {
+                floor = value(node);
+                node = right(node);
+            } else if (comparison < 0) {
+                node = left(node);
+            } else {
+                return value(node);
+            }
+        }
+        return floor;
+    }
+
+    /**
+     * @return the least element greater than or equal to the given one, or null if there is no such element
+     */
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        T ceiling = null;
+        N node = root();
+        while (node != null) {
+            int comparison = element.compareTo(value(node));
+            if (comparison > 0) {
+                node = right(node);
+            } else if (comparison < 0) {
+                ceiling = value(node);
+                node = left(node);
+            } else {
+                return value(node);
+            }
+        }
+        return ceiling;
+    }
+
+    /**
+     * @return the least element in the tree
+     * @throws NoSuchElementException if tree is empty
+     */
+    public T min() {
+        N node = checkElementsExist();
+        for (N left = left(node); left != null; left = left(node)) {
+            node = left;
+        }
+        return value(node);
+    }
+
+    /**
+     * @return the greatest element in the tree
+     * @throws NoSuchElementException if tree is empty
+     */
+    public T max() {
+        N node = checkElementsExist();
+        for (N right = right(node); right != null; right = right(node)) {
+            node = right;
+        }
+        return value(node);
+    }
+
+    private N checkElementsExist() {
+        N root = root();
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+        return root;
+    }
+
+    private void checkRange(T from, T to) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("From element is greater than to element");
+        }
+    }
+
+    /**
+     * Traverses elements between from and to (both inclusive) in element's natural order using an explicit stack,
+     * which holds at most one path from the root. Subtrees that are entirely outside the range are not visited.
+     *
+     * @param consumer accepts ref. to node during traversing
+     * @throws IllegalArgumentException if from is greater than to
+     */
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        checkRange(from, to);
+        Deque<N> path = new ArrayDeque<>();
+        N node = root();
+        while (node != null || !path.isEmpty()) {
+            while (node != null) {
+                if (value(node).compareTo(from) < 0) {
+                    node = right(node);
+                } else {
+                    path.push(node);
+                    node = left(node);
+                }
+            }
+            node = path.pop();
+            if (value(node).compareTo(to) > 0) {
+                return;
+            }
+            consumer.accept(value(node));
+            node = right(node);
+        }
+    }
+
+    /**
+     * Returns a lazy iterator that keeps the path from the root to the next node, so it takes O(depth) memory and
+     * amortized constant time per element.
+     *
+     * @return an iterator over elements in their natural order
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator();
+    }
+
+    private class InOrderIterator implements Iterator<T> {
+        private final Deque<N> path = new ArrayDeque<>();
+
+        private InOrderIterator() {
+            pushLeftPath(root());
+        }
+
+        private void pushLeftPath(N node) {
+            for (; node != null; node = left(node)) {
+                path.push(node);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            N node = path.pop();
+            pushLeftPath(right(node));
+            return value(node);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * {@link AvlBinarySearchTree} is a self-balancing {@link BinarySearchTree}. Each node stores the height of its subtree,
+ * and after an insert the heights of the left and right subtrees of any node differ by at most one. When an insert
+ * breaks this rule, the unbalanced node is fixed by one or two rotations.
+ * <p>
+ * Since the height of the tree never exceeds ~1.44 * log2(n), insert and contains take O(log n) time for any insert
+ * order, including sorted keys like timestamps or sequential ids.
+ *
+ * @param <T> a type of elements that have natural order
+ */
+public class AvlBinarySearchTree<T extends Comparable<T>>
+        extends AbstractBinarySearchTree<T, AvlBinarySearchTree.Node<T>> implements BinarySearchTree<T> {
+
+    static class Node<T> {
+        private T value;
+        private Node<T> left;
+        private Node<T> right;
+        private int height = 1;
+
+        private Node(T value) {
+            this.value = value;
+        }
+
+        public static <T> Node<T> valueOf(T value) {
+            return new Node<>(value);
+        }
+    }
+
+    private Node<T> root;
+    private int size = 0;
+
+    public static <T extends Comparable<T>> AvlBinarySearchTree<T> of(T... elements) {
+        AvlBinarySearchTree<T> bst = new AvlBinarySearchTree<>();
+        Stream.of(elements).forEach(bst::insert);
+        return bst;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        int sizeBefore = size;
+        root = insert(root, element);
+        return size > sizeBefore;
+    }
+
+    private Node<T> insert(Node<T> node, T element) {
+        if (node == null) {
+            size++;
+            return Node.valueOf(element);
+        }
+        int comparison = element.compareTo(node.value);
+        if (comparison > 0) {
+            node.right = insert(node.right, element);
+        } else if (comparison < 0) {
+            node.left = insert(node.left, element);
+        } else {
+            return node;
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> rebalance(Node<T> node) {
+        updateHeight(node);
+        int balance = balance(node);
+        if (balance > 1) {
+            if (balance(node.left) < 0) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (balance(node.right) > 0) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        updateHeight(node);
+        updateHeight(newRoot);
+        return newRoot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        updateHeight(node);
+        updateHeight(newRoot);
+        return newRoot;
+    }
+
+    private void updateHeight(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+    }
+
+    private int balance(Node<T> node) {
+        return height(node.left) - height(node.right);
+    }
+
+    private int height(Node<T> node) {
+        return node != null ? node.height : 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the depth of the tree, which is stored in the root node, so it takes constant time O(1)
+     *
+     * @return max. number of transition between root node and any other node
+     */
+    @Override
+    public int depth() {
+        return root != null ? root.height - 1 : 0;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        inOrderTraversal(root, consumer);
+    }
+
+    private void inOrderTraversal(Node<T> node, Consumer<T> consumer) {
+        if (node != null) {
+            inOrderTraversal(node.left, consumer);
+            consumer.accept(node.value);
+            inOrderTraversal(node.right, consumer);
+        }
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = element.compareTo(node.value);
+            if (comparison > 0) {
+                node = node.right;
+            } else if (comparison < 0) {
+                node = node.left;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    Node<T> root() {
+        return root;
+    }
+
+    @Override
+    Node<T> left(Node<T> node) {
+        return node.left;
+    }
+
+    @Override
+    Node<T> right(Node<T> node) {
+        return node.right;
+    }
+
+    @Override
+    T value(Node<T> node) {
+        return node.value;
+    }
+}
@@ -0,0 +1,362 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * {@link BTree} is a {@link BinarySearchTree} which nodes hold sorted arrays of up to 2 * minDegree - 1 elements, and
+ * have one more child than elements. A node is searched with a binary search over its array, and the whole tree is
+ * only a few levels deep, e.g. a tree of 10 million elements with the default min degree is 4-5 levels deep. So a
+ * lookup follows a few child references instead of ~25 for a balanced binary tree, and neighbouring keys are read from
+ * the same cache lines.
+ * <p>
+ * Insert splits every full node on the way down (an algorithm from "Introduction to Algorithms" by Cormen et al.),
+ * so a new element always fits into a leaf and no node has to be revisited. All leaves are always on the same level.
+ *
+ * @param <T> a type of elements that have natural order
+ */
+public class BTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private static final int DEFAULT_MIN_DEGREE = 32;
+
+    private static class Node {
+        private final Object[] elements;
+        private final Node[] children;
+        private int count;
+
+        private Node(int maxElements, boolean leaf) {
+            this.elements = new Object[maxElements];
+            this.children = leaf ? null : new Node[maxElements + 1];
+        }
+
+        private boolean isLeaf() {
+            return children == null;
+        }
+    }
+
+    private final int minDegree;
+    private final int maxElements;
+    private Node root;
+    private int height;
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link BTree} which nodes hold from minDegree - 1 to
+     * 2 * minDegree - 1 elements. The root can hold fewer elements.
+     *
+     * @param minDegree min number of children of a non-root internal node
+     * @throws IllegalArgumentException if minDegree is less than 2
+     */
+    public BTree(int minDegree) {
+        if (minDegree < 2) {
+            throw new IllegalArgumentException("Min degree must be at least 2");
+        }
+        this.minDegree = minDegree;
+        this.maxElements = 2 * minDegree - 1;
+    }
+
+    /**
+     * This constructor creates an instance of {@link BTree} which nodes hold up to 63 elements.
+     */
+    public BTree() {
+        this(DEFAULT_MIN_DEGREE);
+    }
+
+    public static <T extends Comparable<T>> BTree<T> of(T... elements) {
+        BTree<T> bTree = new BTree<>();
+        Stream.of(elements).forEach(bTree::insert);
+        return bTree;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(Node node, int index) {
+        return (T) node.elements[index];
+    }
+
+    /**
+     * @return an index of the element in the node, or (-(insertion point) - 1) if the node does not contain it
+     */
+    private int search(Node node, T element) {
+        int low = 0;
+        int high = node.count - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = elementAt(node, middle).compareTo(element);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        if (root == null) {
+            root = new Node(maxElements, true);
+        } else if (root.count == maxElements) {
+            Node newRoot = new Node(maxElements, false);
+            newRoot.children[0] = root;
+            splitChild(newRoot, 0);
+            root = newRoot;
+            height++;
+        }
+        Node node = root;
+        while (true) {
+            int index = search(node, element);
+            if (index >= 0) {
+                return false;
+            }
+            int position = -(index + 1);
+            if (node.isLeaf()) {
+                System.arraycopy(node.elements, position, node.elements, position + 1, node.count - position);
+                node.elements[position] = element;
+                node.count++;
+                size++;
+                return true;
+            }
+            if (node.children[position].count == maxElements) {
+                splitChild(node, position);
+                int comparison = element.compareTo(elementAt(node, position));
+                if (comparison == 0) {
+                    return false;
+                } else if (comparison > 0) {
+                    position++;
+                }
+            }
+            node = node.children[position];
+        }
+    }
+
+    /**
+     * Splits a full child into two nodes of minDegree - 1 elements, and moves its middle element up to the parent,
+     * which is never full.
+     */
+    private void splitChild(Node parent, int childIndex) {
+        Node child = parent.children[childIndex];
+        Node sibling = new Node(maxElements, child.isLeaf());
+        sibling.count = minDegree - 1;
+        System.arraycopy(child.elements, minDegree, sibling.elements, 0, minDegree - 1);
+        if (!child.isLeaf()) {
+            System.arraycopy(child.children, minDegree, sibling.children, 0, minDegree);
+            Arrays.fill(child.children, minDegree, maxElements + 1, null);
+        }
+        Object middle = child.elements[minDegree - 1];
+        Arrays.fill(child.elements, minDegree - 1, maxElements, null);
+        child.count = minDegree - 1;
+
+        System.arraycopy(parent.children, childIndex + 1, parent.children, childIndex + 2,
+                parent.count - childIndex);
+        parent.children[childIndex + 1] = sibling;
+        System.arraycopy(parent.elements, childIndex, parent.elements, childIndex + 1, parent.count - childIndex);
+        parent.elements[childIndex] = middle;
+        parent.count++;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node node = root;
+        while (node != null) {
+            int index = search(node, element);
+            if (index >= 0) {
+                return true;
+            }
+            node = node.isLeaf() ? null : node.children[-(index + 1)];
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of child references between the root and leaves, all leaves are on the same level. It does not
+     * count transitions between elements of the same node.
+     *
+     * @return max. number of transition between root node and any other node; 0 - if tree is empty or has one node
+     */
+    @Override
+    public int depth() {
+        return height;
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        if (root != null) {
+            inOrderTraversal(root, consumer);
+        }
+    }
+
+    private void inOrderTraversal(Node node, Consumer<T> consumer) {
+        for (int i = 0; i < node.count; i++) {
+            if (!node.isLeaf()) {
+                inOrderTraversal(node.children[i], consumer);
+            }
+            consumer.accept(elementAt(node, i));
+        }
+        if (!node.isLeaf()) {
+            inOrderTraversal(node.children[node.count], consumer);
+        }
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        T floor = null;
+        Node node = root;
+        while (node != null) {
+            int index = search(node, element);
+            if (index >= 0) {
+                return elementAt(node, index);
+            }
+            int position = -(index + 1);
+            if (position > 0) {
+                floor = elementAt(node, position - 1);
+            }
+            node = node.isLeaf() ? null : node.children[position];
+        }
+        return floor;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        T ceiling = null;
+        Node node = root;
+        while (node != null) {
+            int index = search(node, element);
+            if (index >= 0) {
+                return elementAt(node, index);
+            }
+            int position = -(index + 1);
+            if (position < node.count) {
+                ceiling = elementAt(node, position);
+            }
+            node = node.isLeaf() ? null : node.children[position];
+        }
+        return ceiling;
+    }
+
+    @Override
+    public T min() {
+        checkElementsExist();
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[0];
+        }
+        return elementAt(node, 0);
+    }
+
+    @Override
+    public T max() {
+        checkElementsExist();
+        Node node = root;
+        while (!node.isLeaf()) {
+            node = node.children[node.count];
+        }
+        return elementAt(node, node.count - 1);
+    }
+
+    private void checkElementsExist() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("From element is greater than to element");
+        }
+        if (root != null) {
+            rangeTraversal(root, from, to, consumer);
+        }
+    }
+
+    /**
+     * @return false if an element greater than to is found, so the traversal can stop
+     */
+    private boolean rangeTraversal(Node node, T from, T to, Consumer<T> consumer) {
+        int index = search(node, from);
+        int start = index >= 0 ? index : -(index + 1);
+        for (int i = start; i < node.count; i++) {
+            if (!node.isLeaf() && i != index && !rangeTraversal(node.children[i], from, to, consumer)) {
+                return false;
+            }
+            T element = elementAt(node, i);
+            if (element.compareTo(to) > 0) {
+                return false;
+            }
+            consumer.accept(element);
+        }
+        return node.isLeaf() || rangeTraversal(node.children[node.count], from, to, consumer);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new BTreeIterator();
+    }
+
+    /**
+     * Keeps a node and a position of the next element on each level of the path from the root, so it does not allocate
+     * memory while iterating.
+     */
+    private class BTreeIterator implements Iterator<T> {
+        private final Node[] path = new Node[height + 1];
+        private final int[] positions = new int[height + 1];
+        private int level = -1;
+
+        private BTreeIterator() {
+            if (size > 0) {
+                descendLeft(root);
+            }
+        }
+
+        private void descendLeft(Node node) {
+            while (true) {
+                level++;
+                path[level] = node;
+                positions[level] = 0;
+                if (node.isLeaf()) {
+                    return;
+                }
+                node = node.children[0];
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return level >= 0;
+        }
+
+        @Override
+        public T next() {
+            if (level < 0) {
+                throw new NoSuchElementException();
+            }
+            Node node = path[level];
+            int position = positions[level]++;
+            T element = elementAt(node, position);
+            if (!node.isLeaf()) {
+                descendLeft(node.children[position + 1]);
+            } else {
+                while (level >= 0 && positions[level] == path[level].count) {
+                    level--;
+                }
+            }
+            return element;
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.bobocode.cs;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-public interface BinarySearchTree<T extends Comparable<T>> {
+public interface BinarySearchTree<T extends Comparable<T>> extends Iterable<T> {
     /**
      * insert an element
      * @return true if element did not exist in the tree and was inserted successfully
@@ -29,4 +34,53 @@ public interface BinarySearchTree<T extends Comparable<T>> {
      * @param consumer accepts ref. to node during traversing
      */
     void inOrderTraversal(Consumer<T> consumer);
+
+    /**
+     * @return the greatest element less than or equal to the given one, or null if there is no such element
+     */
+    T floor(T element);
+
+    /**
+     * @return the least element greater than or equal to the given one, or null if there is no such element
+     */
+    T ceiling(T element);
+
+    /**
+     * @return the least element in the tree
+     * @throws java.util.NoSuchElementException if tree is empty
+     */
+    T min();
+
+    /**
+     * @return the greatest element in the tree
+     * @throws java.util.NoSuchElementException if tree is empty
+     */
+    T max();
+
+    /**
+     * traverse elements between from and to (both inclusive) in element's natural order. Subtrees that are entirely
+     * outside the range are not visited
+     * @param consumer accepts ref. to node during traversing
+     * @throws IllegalArgumentException if from is greater than to
+     */
+    void rangeTraversal(T from, T to, Consumer<T> consumer);
+
+    /**
+     * @return a lazy iterator over elements in their natural order, that visits a next node only when it is requested
+     */
+    @Override
+    Iterator<T> iterator();
+
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(),
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL);
+    }
+
+    /**
+     * @return a sequential stream of elements in their natural order
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
 }
@@ -0,0 +1,203 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * {@link IterativeBinarySearchTree} is a {@link BinarySearchTree} which operations use loops instead of recursion, so
+ * they never throw {@link StackOverflowError}, no matter how deep the tree is. E.g. inserting sorted keys builds
+ * a degenerate tree which depth equals its size, but it can still be searched and traversed.
+ * <p>
+ * {@link IterativeBinarySearchTree#inOrderTraversal(Consumer)} and {@link IterativeBinarySearchTree#depth()} use
+ * Morris traversal, which needs constant extra memory. It temporarily links the rightmost node of each left subtree
+ * back to its in-order successor, and removes these links before the traversal is finished.
+ *
+ * @param <T> a type of elements that have natural order
+ */
+public class IterativeBinarySearchTree<T extends Comparable<T>>
+        extends AbstractBinarySearchTree<T, IterativeBinarySearchTree.Node<T>> implements BinarySearchTree<T> {
+
+    static class Node<T> {
+        private T value;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(T value) {
+            this.value = value;
+        }
+
+        public static <T> Node<T> valueOf(T value) {
+            return new Node<>(value);
+        }
+    }
+
+    private Node<T> root;
+    private int size = 0;
+
+    public static <T extends Comparable<T>> IterativeBinarySearchTree<T> of(T... elements) {
+        IterativeBinarySearchTree<T> bst = new IterativeBinarySearchTree<>();
+        Stream.of(elements).forEach(bst::insert);
+        return bst;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        if (root == null) {
+            root = Node.valueOf(element);
+            size++;
+            return true;
+        }
+        Node<T> node = root;
+        while (true) {
+            int comparison = element.compareTo(node.value);
+            if (comparison > 0) {
+                if (node.right == null) {
+                    node.right = Node.valueOf(element);
+                    break;
+                }
+                node = node.right;
+            } else if (comparison < 0) {
+                if (node.left == null) {
+                    node.left = Node.valueOf(element);
+                    break;
+                }
+                node = node.left;
+            } else {
+                return false;
+            }
+        }
+        size++;
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Computes the depth of the tree with Morris traversal. When the traversal returns from a left subtree through
+     * a temporary link, the depth is decreased by the length of the path to the rightmost node of that subtree.
+     *
+     * @return max. number of transition between root node and any other node; 0 - if tree is empty or contains
+     * 1 element
+     */
+    @Override
+    public int depth() {
+        int maxDepth = 0;
+        int depth = 0;
+        Node<T> node = root;
+        while (node != null) {
+            if (node.left == null) {
+                maxDepth = Math.max(maxDepth, depth);
+                node = node.right;
+                depth++;
+            } else {
+                int pathLength = 1;
+                Node<T> predecessor = node.left;
+                while (predecessor.right != null && predecessor.right != node) {
+                    predecessor = predecessor.right;
+                    pathLength++;
+                }
+                if (predecessor.right == null) {
+                    predecessor.right = node;
+                    node = node.left;
+                    depth++;
+                } else {
+                    // the node was reached through a temporary link from its predecessor
+                    predecessor.right = null;
+                    depth -= pathLength + 1;
+                    node = node.right;
+                    depth++;
+                }
+            }
+        }
+        return maxDepth;
+    }
+
+    /**
+     * Traverses the tree in element's natural order using constant extra memory. The consumer must not access the
+     * tree, since the tree contains temporary links during the traversal. If the consumer throws an exception,
+     * the traversal is finished without calling the consumer, so the tree is restored, and then the exception is
+     * rethrown.
+     *
+     * @param consumer accepts ref. to node during traversing
+     */
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        RuntimeException consumerException = null;
+        Node<T> node = root;
+        while (node != null) {
+            if (node.left == null) {
+                consumerException = accept(consumer, node.value, consumerException);
+                node = node.right;
+            } else {
+                Node<T> predecessor = node.left;
+                while (predecessor.right != null && predecessor.right != node) {
+                    predecessor = predecessor.right;
+                }
+                if (predecessor.right == null) {
+                    predecessor.right = node;
+                    node = node.left;
+                } else {
+                    predecessor.right = null;
+                    consumerException = accept(consumer, node.value, consumerException);
+                    node = node.right;
+                }
+            }
+        }
+        if (consumerException != null) {
+            throw consumerException;
+        }
+    }
+
+    private RuntimeException accept(Consumer<T> consumer, T value, RuntimeException consumerException) {
+        if (consumerException == null) {
+            try {
+                consumer.accept(value);
+            } catch (RuntimeException e) {
+                return e;
+            }
+        }
+        return consumerException;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = element.compareTo(node.value);
+            if (comparison > 0) {
+                node = node.right;
+            } else if (comparison < 0) {
+                node = node.left;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    Node<T> root() {
+        return root;
+    }
+
+    @Override
+    Node<T> left(Node<T> node) {
+        return node.left;
+    }
+
+    @Override
+    Node<T> right(Node<T> node) {
+        return node.right;
+    }
+
+    @Override
+    T value(Node<T> node) {
+        return node.value;
+    }
+}
@@ -0,0 +1,269 @@
+package com.bobocode.cs;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * {@link LockFreeSkipList} is a thread-safe ordered set that implements {@link BinarySearchTree}, so many threads can
+ * insert and look up elements without a lock.
+ * <p>
+ * Elements are kept in a sorted linked list, and some of them are also linked into sparser lists on upper levels.
+ * Each element gets a random number of levels, the probability of having one more level is 1/2, so a search that
+ * starts on the top level and goes down skips most elements and takes O(log n) expected steps, like a balanced tree.
+ * <p>
+ * An element is inserted by linking it into each of its levels with compare-and-set (CAS), from the bottom level up.
+ * {@link LockFreeSkipList#insert(Comparable)} and {@link LockFreeSkipList#contains(Comparable)} are linearizable:
+ * an element is in the set as soon as it is linked into the bottom level. Elements are never removed, so there are
+ * no deleted nodes to skip.
+ * <p>
+ * Traversals and iterators walk the bottom level and are weakly consistent: they never fail, return each element
+ * at most once in natural order, and may or may not see elements that are inserted after they have started.
+ *
+ * @param <T> a type of elements that have natural order
+ */
+public class LockFreeSkipList<T extends Comparable<T>> implements BinarySearchTree<T> {
+    private static final int MAX_LEVEL = 32;
+
+    private static class Node<T> {
+        private final T value;
+        private final AtomicReferenceArray<Node<T>> next;
+
+        private Node(T value, int levels) {
+            this.value = value;
+            this.next = new AtomicReferenceArray<>(levels);
+        }
+
+        private Node<T> next(int level) {
+            return next.get(level);
+        }
+    }
+
+    private final Node<T> head = new Node<>(null, MAX_LEVEL);
+    private final AtomicInteger levels = new AtomicInteger(1);
+    private final LongAdder size = new LongAdder();
+
+    public static <T extends Comparable<T>> LockFreeSkipList<T> of(T... elements) {
+        LockFreeSkipList<T> skipList = new LockFreeSkipList<>();
+        Stream.of(elements).forEach(skipList::insert);
+        return skipList;
+    }
+
+    @Override
+    public boolean insert(T element) {
+        Objects.requireNonNull(element);
+        int topLevel = randomLevels();
+        @SuppressWarnings("unchecked")
+        Node<T>[] predecessors = (Node<T>[]) new Node<?>[MAX_LEVEL];
+        @SuppressWarnings("unchecked")
+        Node<T>[] successors = (Node<T>[]) new Node<?>[MAX_LEVEL];
+        Node<T> newNode = new Node<>(element, topLevel);
+        do {
+            if (find(element, topLevel, predecessors, successors)) {
+                return false;
+            }
+            for (int level = 0; level < topLevel; level++) {
+                newNode.next.lazySet(level, successors[level]);
+            }
+        } while (!predecessors[0].next.compareAndSet(0, successors[0], newNode));
+
+        // the element is in the set now, the upper levels only speed up searches
+        for (int level = 1; level < topLevel; level++) {
+            while (!predecessors[level].next.compareAndSet(level, successors[level], newNode)) {
+                find(element, topLevel, predecessors, successors);
+                newNode.next.set(level, successors[level]);
+            }
+        }
+        raiseLevels(topLevel);
+        size.increment();
+        return true;
+    }
+
+    private static int randomLevels() {
+        int random = ThreadLocalRandom.current().nextInt();
+        return Math.min(MAX_LEVEL, 1 + Integer.numberOfTrailingZeros(random));
+    }
+
+    private void raiseLevels(int topLevel) {
+        int current;
+        while ((current = levels.get()) < topLevel && !levels.compareAndSet(current, topLevel)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Fills predecessors and successors of the element on every level below minLevels and below the number of levels
+     * in use. A predecessor is the last node which value is less than the element, and a successor is the next node.
+     *
+     * @return true if the element is found on the bottom level
+     */
+    private boolean find(T element, int minLevels, Node<T>[] predecessors, Node<T>[] successors) {
+        int topLevel = Math.max(minLevels, levels.get());
+        Node<T> predecessor = head;
+        for (int level = topLevel - 1; level >= 0; level--) {
+            Node<T> current = predecessor.next(level);
+            while (current != null && current.value.compareTo(element) < 0) {
+                predecessor = current;
+                current = predecessor.next(level);
+            }
+            predecessors[level] = predecessor;
+            successors[level] = current;
+        }
+        return successors[0] != null && successors[0].value.compareTo(element) == 0;
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> node = ceilingNode(element);
+        return node != null && node.value.compareTo(element) == 0;
+    }
+
+    private Node<T> ceilingNode(T element) {
+        Node<T> predecessor = head;
+        Node<T> current = null;
+        for (int level = levels.get() - 1; level >= 0; level--) {
+            current = predecessor.next(level);
+            while (current != null && current.value.compareTo(element) < 0) {
+                predecessor = current;
+                current = predecessor.next(level);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Returns the number of elements. If the list is modified concurrently, the size may already be outdated when it
+     * is returned.
+     *
+     * @return number of elements in the list
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(size.sum(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * A search goes down one level at a time, so the number of levels above the bottom one plays the role of a tree
+     * depth. It grows as O(log n) and does not depend on insert order.
+     *
+     * @return number of levels above the bottom one; 0 - if the list is empty
+     */
+    @Override
+    public int depth() {
+        return head.next(0) == null ? 0 : levels.get() - 1;
+    }
+
+    /**
+     * Traverses the bottom level, the traversal is weakly consistent
+     *
+     * @param consumer accepts ref. to node during traversing
+     */
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        for (Node<T> node = head.next(0); node != null; node = node.next(0)) {
+            consumer.accept(node.value);
+        }
+    }
+
+    @Override
+    public T floor(T element) {
+        Objects.requireNonNull(element);
+        Node<T> predecessor = head;
+        for (int level = levels.get() - 1; level >= 0; level--) {
+            Node<T> current = predecessor.next(level);
+            while (current != null && current.value.compareTo(element) <= 0) {
+                predecessor = current;
+                current = predecessor.next(level);
+            }
+        }
+        return predecessor.value;
+    }
+
+    @Override
+    public T ceiling(T element) {
+        Objects.requireNonNull(element);
+        Node<T> node = ceilingNode(element);
+        return node != null ? node.value : null;
+    }
+
+    @Override
+    public T min() {
+        Node<T> first = head.next(0);
+        if (first == null) {
+            throw new NoSuchElementException();
+        }
+        return first.value;
+    }
+
+    @Override
+    public T max() {
+        Node<T> predecessor = head;
+        for (int level = levels.get() - 1; level >= 0; level--) {
+            for (Node<T> current = predecessor.next(level); current != null; current = current.next(level)) {
+                predecessor = current;
+            }
+        }
+        if (predecessor == head) {
+            throw new NoSuchElementException();
+        }
+        return predecessor.value;
+    }
+
+    /**
+     * Finds the first element of the range on upper levels, and then walks the bottom level until the end of the range.
+     * The traversal is weakly consistent.
+     */
+    @Override
+    public void rangeTraversal(T from, T to, Consumer<T> consumer) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        if (from.compareTo(to) > 0) {
+            throw new IllegalArgumentException("From element is greater than to element");
+        }
+        for (Node<T> node = ceilingNode(from); node != null && node.value.compareTo(to) <= 0; node = node.next(0)) {
+            consumer.accept(node.value);
+        }
+    }
+
+    /**
+     * @return a weakly consistent iterator over elements in their natural order
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new SkipListIterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED | Spliterator.SORTED
+                | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT);
+    }
+
+    private class SkipListIterator implements Iterator<T> {
+        private Node<T> next = head.next(0);
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            T element = next.value;
+            next = next.next(0);
+            return element;
+        }
+    }
+}
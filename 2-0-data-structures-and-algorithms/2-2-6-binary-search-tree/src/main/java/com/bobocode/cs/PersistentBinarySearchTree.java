@@ -0,0 +1,184 @@
+package com.bobocode.cs;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * {@link PersistentBinarySearchTree} is an immutable AVL tree. Instead of changing the tree,
+ * {@link PersistentBinarySearchTree#insert(Comparable)} returns a new version, and the old version stays valid.
+ * Only the nodes on the path from the root to the new element are copied (path copying), all the other nodes are
+ * shared between versions, so insert takes O(log n) time and memory.
+ * <p>
+ * Since a version never changes, it can be read by any number of threads without locks, and readers never see
+ * a partially updated tree. A writer publishes a new version through a single reference, e.g.
+ * <pre>{@code
+ * AtomicReference<PersistentBinarySearchTree<String>> current =
+ *         new AtomicReference<>(PersistentBinarySearchTree.empty());
+ * current.updateAndGet(tree -> tree.insert("key")); // writers
+ * PersistentBinarySearchTree<String> snapshot = current.get(); // readers
+ * }</pre>
+ * The methods that read the tree have the same meaning as in {@link BinarySearchTree}. It is not implemented, since its
+ * {@link BinarySearchTree#insert(Comparable)} changes the tree.
+ *
+ * @param <T> a type of elements that have natural order
+ */
+public final class PersistentBinarySearchTree<T extends Comparable<T>>
+        extends AbstractBinarySearchTree<T, PersistentBinarySearchTree.Node<T>> {
+    @SuppressWarnings("rawtypes")
+    private static final PersistentBinarySearchTree EMPTY = new PersistentBinarySearchTree<>(null, 0);
+
+    static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int height;
+
+        private Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = 1 + Math.max(height(left), height(right));
+        }
+    }
+
+    private final Node<T> root;
+    private final int size;
+
+    private PersistentBinarySearchTree(Node<T> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>> PersistentBinarySearchTree<T> empty() {
+        return EMPTY;
+    }
+
+    public static <T extends Comparable<T>> PersistentBinarySearchTree<T> of(T... elements) {
+        PersistentBinarySearchTree<T> tree = empty();
+        for (T element : elements) {
+            tree = tree.insert(element);
+        }
+        return tree;
+    }
+
+    /**
+     * insert an element
+     * @return a new version of the tree that contains the element, or this version if it already contains it
+     */
+    public PersistentBinarySearchTree<T> insert(T element) {
+        Objects.requireNonNull(element);
+        Node<T> newRoot = insert(root, element);
+        return newRoot == root ? this : new PersistentBinarySearchTree<>(newRoot, size + 1);
+    }
+
+    private static <T extends Comparable<T>> Node<T> insert(Node<T> node, T element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int comparison = element.compareTo(node.value);
+        if (comparison > 0) {
+            Node<T> newRight = insert(node.right, element);
+            return newRight == node.right ? node : balanced(node.value, node.left, newRight);
+        } else if (comparison < 0) {
+            Node<T> newLeft = insert(node.left, element);
+            return newLeft == node.left ? node : balanced(node.value, newLeft, node.right);
+        } else {
+            return node;
+        }
+    }
+
+    /**
+     * Creates a node from the value and its subtrees, which heights differ by at most two, and rotates it, if the
+     * heights differ by two. Rotations create new nodes instead of changing existing ones.
+     */
+    private static <T> Node<T> balanced(T value, Node<T> left, Node<T> right) {
+        int balance = height(left) - height(right);
+        if (balance > 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            Node<T> pivot = left.right;
+            return new Node<>(pivot.value,
+                    new Node<>(left.value, left.left, pivot.left), new Node<>(value, pivot.right, right));
+        } else if (balance < -1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            Node<T> pivot = right.left;
+            return new Node<>(pivot.value,
+                    new Node<>(value, left, pivot.left), new Node<>(right.value, pivot.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int height(Node<?> node) {
+        return node != null ? node.height : 0;
+    }
+
+    /**
+     * @return number of elements in the tree
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the tree has no elements
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return max. number of transition between root node and any other node; 0 - if tree is empty or contains 1 element
+     */
+    public int depth() {
+        return root != null ? root.height - 1 : 0;
+    }
+
+    /**
+     * traverse the tree in element's natural order
+     * @param consumer accepts ref. to node during traversing
+     */
+    public void inOrderTraversal(Consumer<T> consumer) {
+        forEach(consumer);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = element.compareTo(node.value);
+            if (comparison > 0) {
+                node = node.right;
+            } else if (comparison < 0) {
+                node = node.left;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    Node<T> root() {
+        return root;
+    }
+
+    @Override
+    Node<T> left(Node<T> node) {
+        return node.left;
+    }
+
+    @Override
+    Node<T> right(Node<T> node) {
+        return node.right;
+    }
+
+    @Override
+    T value(Node<T> node) {
+        return node.value;
+    }
+}
@@ -4,12 +4,14 @@ import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
-public class RecursiveBinarySearchTree<T extends Comparable<T>> implements BinarySearchTree<T> {
+public class RecursiveBinarySearchTree<T extends Comparable<T>>
+        extends AbstractBinarySearchTree<T, RecursiveBinarySearchTree.Node<T>> implements BinarySearchTree<T> {
 
-    private static class Node<T> {
+    static class Node<T> {
         private T value;
         private Node<T> left;
         private Node<T> right;
+        private int count = 1;
 
         private Node(T value) {
             this.value = value;
@@ -29,6 +31,39 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
         return bst;
     }
 
+    /**
+     * Builds a perfectly balanced tree from elements sorted in ascending order in linear time O(n). The middle element
+     * of each range becomes a root of a subtree, so the depth of the tree is floor(log2(n)).
+     *
+     * @param elements elements sorted in ascending order without duplicates
+     * @return a new balanced tree
+     * @throws IllegalArgumentException if elements are not sorted or contain duplicates
+     */
+    public static <T extends Comparable<T>> RecursiveBinarySearchTree<T> fromSorted(T... elements) {
+        for (int i = 0; i < elements.length; i++) {
+            Objects.requireNonNull(elements[i]);
+            if (i > 0 && elements[i - 1].compareTo(elements[i]) >= 0) {
+                throw new IllegalArgumentException("Elements must be sorted in ascending order without duplicates");
+            }
+        }
+        RecursiveBinarySearchTree<T> bst = new RecursiveBinarySearchTree<>();
+        bst.root = buildBalanced(elements, 0, elements.length - 1);
+        bst.size = elements.length;
+        return bst;
+    }
+
+    private static <T> Node<T> buildBalanced(T[] elements, int from, int to) {
+        if (from > to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        Node<T> node = Node.valueOf(elements[middle]);
+        node.left = buildBalanced(elements, from, middle - 1);
+        node.right = buildBalanced(elements, middle + 1, to);
+        node.count = to - from + 1;
+        return node;
+    }
+
     @Override
     public boolean insert(T element) {
         Objects.requireNonNull(element);
@@ -51,13 +86,18 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
     private boolean insertSubTree(Node<T> subTreeRoot, T element) {
         int comparison = element.compareTo(subTreeRoot.value);
 
+        boolean isInserted;
         if (comparison > 0) {
-            return insertRightSubTree(subTreeRoot, element);
+            isInserted = insertRightSubTree(subTreeRoot, element);
         } else if (comparison < 0) {
-            return insertLeftSubTree(subTreeRoot, element);
+            isInserted = insertLeftSubTree(subTreeRoot, element);
         } else {
-            return false;
+            isInserted = false;
         }
+        if (isInserted) {
+            subTreeRoot.count++;
+        }
+        return isInserted;
     }
 
     private boolean insertRightSubTree(Node<T> node, T element) {
@@ -78,12 +118,6 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
         }
     }
 
-    @Override
-    public boolean contains(T element) {
-        Objects.requireNonNull(element);
-        return findNode(root, element) != null;
-    }
-
     private Node<T> findNode(Node<T> node, T element) {
         if (node == null) {
             return null;
@@ -100,6 +134,95 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
         }
     }
 
+    /**
+     * remove an element
+     * @return true if element existed in the tree and was removed
+     */
+    public boolean remove(T element) {
+        Objects.requireNonNull(element);
+        if (findNode(root, element) == null) {
+            return false;
+        }
+        root = removeNode(root, element);
+        size--;
+        return true;
+    }
+
+    private Node<T> removeNode(Node<T> node, T element) {
+        int comparison = element.compareTo(node.value);
+
+        if (comparison > 0) {
+            node.right = removeNode(node.right, element);
+        } else if (comparison < 0) {
+            node.left = removeNode(node.left, element);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.value = successor.value;
+            node.right = removeNode(node.right, successor.value);
+        }
+        node.count--;
+        return node;
+    }
+
+    /**
+     * Every node keeps the number of nodes in its subtree, so rank is found on a single path from the root in O(depth)
+     * @return number of elements in the tree that are less than the given one
+     */
+    public int rank(T element) {
+        Objects.requireNonNull(element);
+        return rank(root, element);
+    }
+
+    private int rank(Node<T> node, T element) {
+        if (node == null) {
+            return 0;
+        }
+
+        int comparison = element.compareTo(node.value);
+
+        if (comparison > 0) {
+            return 1 + count(node.left) + rank(node.right, element);
+        } else if (comparison < 0) {
+            return rank(node.left, element);
+        } else {
+            return count(node.left);
+        }
+    }
+
+    /**
+     * Finds the element with a given rank in O(depth), e.g. {@code select(size() / 2)} returns the median
+     * @param index rank of the element, 0 - the least element
+     * @return the element which has exactly index smaller elements in the tree
+     * @throws IndexOutOfBoundsException if index is negative or not less than size
+     */
+    public T select(int index) {
+        Objects.checkIndex(index, size);
+        return select(root, index);
+    }
+
+    private T select(Node<T> node, int index) {
+        int leftCount = count(node.left);
+
+        if (index > leftCount) {
+            return select(node.right, index - leftCount - 1);
+        } else if (index < leftCount) {
+            return select(node.left, index);
+        } else {
+            return node.value;
+        }
+    }
+
+    private int count(Node<T> node) {
+        return node != null ? node.count : 0;
+    }
+
     @Override
     public int size() {
         return size;
@@ -130,4 +253,41 @@ public class RecursiveBinarySearchTree<T extends Comparable<T>> implements Binar
             inOrderTraversal(node.right, consumer);
         }
     }
+
+    @Override
+    public boolean contains(T element) {
+        Objects.requireNonNull(element);
+        Node<T> node = root;
+        while (node != null) {
+            int comparison = element.compareTo(node.value);
+            if (comparison > 0) {
+                node = node.right;
+            } else if (comparison < 0) {
+                node = node.left;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    Node<T> root() {
+        return root;
+    }
+
+    @Override
+    Node<T> left(Node<T> node) {
+        return node.left;
+    }
+
+    @Override
+    Node<T> right(Node<T> node) {
+        return node.right;
+    }
+
+    @Override
+    T value(Node<T> node) {
+        return node.value;
+    }
 }
@@ -0,0 +1,93 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class AvlBinarySearchTreeTest {
+
+    @Test
+    void insertAndContains() {
+        AvlBinarySearchTree<Integer> tree = AvlBinarySearchTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(tree.contains(7)).isTrue();
+        assertThat(tree.contains(12)).isTrue();
+        assertThat(tree.contains(13)).isFalse();
+    }
+
+    @Test
+    void insertDuplicate() {
+        AvlBinarySearchTree<Integer> tree = AvlBinarySearchTree.of(1, 2);
+
+        assertThat(tree.insert(2)).isFalse();
+        assertThat(tree.size()).isEqualTo(2);
+    }
+
+    @Test
+    void insertNull() {
+        AvlBinarySearchTree<Integer> tree = new AvlBinarySearchTree<>();
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> tree.insert(null));
+    }
+
+    @Test
+    void depthOfEmptyAndSingleElementTree() {
+        AvlBinarySearchTree<Integer> tree = new AvlBinarySearchTree<>();
+        assertThat(tree.depth()).isEqualTo(0);
+
+        tree.insert(1);
+        assertThat(tree.depth()).isEqualTo(0);
+    }
+
+    @Test
+    void sortedInsertsKeepTreeBalanced() {
+        AvlBinarySearchTree<Integer> ascending = new AvlBinarySearchTree<>();
+        AvlBinarySearchTree<Integer> descending = new AvlBinarySearchTree<>();
+        int size = 100_000;
+
+        for (int i = 0; i < size; i++) {
+            ascending.insert(i);
+            descending.insert(size - i);
+        }
+
+        int maxAvlDepth = (int) (1.44 * Math.log(size) / Math.log(2));
+        assertThat(ascending.depth()).isLessThanOrEqualTo(maxAvlDepth);
+        assertThat(descending.depth()).isLessThanOrEqualTo(maxAvlDepth);
+        assertThat(ascending.contains(size - 1)).isTrue();
+        assertThat(descending.contains(size)).isTrue();
+    }
+
+    @Test
+    void perfectlyBalancedAfterSortedInsertsOfPowerOfTwoMinusOne() {
+        AvlBinarySearchTree<Integer> tree = new AvlBinarySearchTree<>();
+        IntStream.range(0, 7).forEach(tree::insert);
+
+        assertThat(tree.depth()).isEqualTo(2);
+    }
+
+    @Test
+    void inOrderTraversalMatchesTreeSet() {
+        Random random = new Random(42);
+        AvlBinarySearchTree<Integer> tree = new AvlBinarySearchTree<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            int element = random.nextInt(5_000);
+            assertThat(tree.insert(element)).isEqualTo(expected.add(element));
+        }
+
+        List<Integer> traversed = new ArrayList<>();
+        tree.inOrderTraversal(traversed::add);
+        assertThat(traversed).containsExactlyElementsOf(expected);
+        assertThat(tree.size()).isEqualTo(expected.size());
+    }
+}
@@ -0,0 +1,93 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BTreeTest {
+
+    @Test
+    void insertAndContains() {
+        BTree<Integer> tree = BTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(tree.contains(7)).isTrue();
+        assertThat(tree.contains(13)).isFalse();
+        assertThat(tree.insert(10)).isFalse();
+        assertThat(tree.size()).isEqualTo(6);
+    }
+
+    @Test
+    void insertNull() {
+        BTree<Integer> tree = new BTree<>();
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> tree.insert(null));
+    }
+
+    @Test
+    void wrongMinDegree() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new BTree<Integer>(1));
+    }
+
+    @Test
+    void depthGrowsWhenRootIsSplit() {
+        BTree<Integer> tree = new BTree<>(2);
+        assertThat(tree.depth()).isEqualTo(0);
+
+        tree.insert(1);
+        tree.insert(2);
+        tree.insert(3);
+        assertThat(tree.depth()).isEqualTo(0);
+
+        tree.insert(4);
+        assertThat(tree.depth()).isEqualTo(1);
+    }
+
+    @Test
+    void millionSortedElementsFitIntoFewLevels() {
+        BTree<Integer> tree = new BTree<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            tree.insert(i);
+        }
+
+        assertThat(tree.size()).isEqualTo(1_000_000);
+        assertThat(tree.depth()).isLessThanOrEqualTo(4);
+        assertThat(tree.contains(999_999)).isTrue();
+        assertThat(tree.min()).isEqualTo(0);
+        assertThat(tree.max()).isEqualTo(999_999);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3, 32})
+    void matchesTreeSet(int minDegree) {
+        Random random = new Random(42);
+        BTree<Integer> tree = new BTree<>(minDegree);
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            int element = random.nextInt(10_000);
+            assertThat(tree.insert(element)).isEqualTo(expected.add(element));
+        }
+
+        List<Integer> traversed = new ArrayList<>();
+        tree.inOrderTraversal(traversed::add);
+        List<Integer> iterated = new ArrayList<>();
+        tree.forEach(iterated::add);
+
+        assertThat(traversed).containsExactlyElementsOf(expected);
+        assertThat(iterated).containsExactlyElementsOf(expected);
+        assertThat(tree.size()).isEqualTo(expected.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(tree.contains(i)).isEqualTo(expected.contains(i));
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BinarySearchTreeNavigationTest {
+
+    static Stream<Supplier<BinarySearchTree<Integer>>> sequentialTrees() {
+        return Stream.of(RecursiveBinarySearchTree::new, AvlBinarySearchTree::new, IterativeBinarySearchTree::new,
+                BTree::new, () -> new BTree<>(2));
+    }
+
+    static Stream<Supplier<BinarySearchTree<Integer>>> trees() {
+        return Stream.concat(sequentialTrees(), Stream.of(LockFreeSkipList::new));
+    }
+
+    private static BinarySearchTree<Integer> treeOf(Supplier<BinarySearchTree<Integer>> factory, Integer... elements) {
+        BinarySearchTree<Integer> tree = factory.get();
+        Stream.of(elements).forEach(tree::insert);
+        return tree;
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void floorAndCeiling(Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = treeOf(factory, 50, 20, 80, 10, 30, 70, 90);
+
+        assertThat(tree.floor(30)).isEqualTo(30);
+        assertThat(tree.floor(35)).isEqualTo(30);
+        assertThat(tree.floor(69)).isEqualTo(50);
+        assertThat(tree.floor(5)).isNull();
+        assertThat(tree.ceiling(30)).isEqualTo(30);
+        assertThat(tree.ceiling(35)).isEqualTo(50);
+        assertThat(tree.ceiling(51)).isEqualTo(70);
+        assertThat(tree.ceiling(95)).isNull();
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void minAndMax(Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = treeOf(factory, 50, 20, 80, 10, 30, 70, 90);
+
+        assertThat(tree.min()).isEqualTo(10);
+        assertThat(tree.max()).isEqualTo(90);
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void minAndMaxOfEmptyTree(Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = factory.get();
+
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(tree::min);
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(tree::max);
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void rangeTraversal(Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = treeOf(factory, 50, 20, 80, 10, 30, 70, 90);
+        List<Integer> inRange = new ArrayList<>();
+
+        tree.rangeTraversal(20, 70, inRange::add);
+
+        assertThat(inRange).containsExactly(20, 30, 50, 70);
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void rangeTraversalWithBoundsNotInTree(Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = treeOf(factory, 50, 20, 80, 10, 30, 70, 90);
+        List<Integer> inRange = new ArrayList<>();
+        List<Integer> empty = new ArrayList<>();
+
+        tree.rangeTraversal(25, 85, inRange::add);
+        tree.rangeTraversal(51, 69, empty::add);
+
+        assertThat(inRange).containsExactly(30, 50, 70, 80);
+        assertThat(empty).isEmpty();
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void rangeTraversalWithWrongRange(Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = treeOf(factory, 1, 2, 3);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> tree.rangeTraversal(3, 1, element -> {
+                }));
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void rangeTraversalMatchesTreeSet(Supplier<BinarySearchTree<Integer>> factory) {
+        Random random = new Random(42);
+        BinarySearchTree<Integer> tree = factory.get();
+        TreeSet<Integer> expected = new TreeSet<>();
+        random.ints(2_000, 0, 10_000).forEach(element -> {
+            tree.insert(element);
+            expected.add(element);
+        });
+
+        for (int i = 0; i < 100; i++) {
+            int from = random.nextInt(10_000);
+            int to = from + random.nextInt(1_000);
+            List<Integer> inRange = new ArrayList<>();
+            tree.rangeTraversal(from, to, inRange::add);
+            assertThat(inRange).containsExactlyElementsOf(expected.subSet(from, true, to, true));
+            assertThat(tree.floor(from)).isEqualTo(expected.floor(from));
+            assertThat(tree.ceiling(to)).isEqualTo(expected.ceiling(to));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void iteratorReturnsElementsInOrder(Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = treeOf(factory, 50, 20, 80, 10, 30, 70, 90);
+        List<Integer> iterated = new ArrayList<>();
+
+        for (Integer element : tree) {
+            iterated.add(element);
+        }
+
+        assertThat(iterated).containsExactly(10, 20, 30, 50, 70, 80, 90);
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void iteratorOfEmptyTree(Supplier<BinarySearchTree<Integer>> factory) {
+        Iterator<Integer> iterator = factory.get().iterator();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+    }
+
+    @ParameterizedTest
+    @MethodSource("trees")
+    void streamCanStopEarly(Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = treeOf(factory, 50, 20, 80, 10, 30, 70, 90);
+
+        List<Integer> firstThree = tree.stream().limit(3).collect(Collectors.toList());
+
+        assertThat(firstThree).containsExactly(10, 20, 30);
+        assertThat(tree.spliterator().hasCharacteristics(Spliterator.SORTED)).isTrue();
+    }
+
+    @ParameterizedTest
+    @MethodSource("sequentialTrees")
+    void spliteratorIsSized(Supplier<BinarySearchTree<Integer>> factory) {
+        BinarySearchTree<Integer> tree = treeOf(factory, 50, 20, 80, 10, 30, 70, 90);
+
+        assertThat(tree.spliterator().hasCharacteristics(Spliterator.SIZED)).isTrue();
+        assertThat(tree.spliterator().getExactSizeIfKnown()).isEqualTo(7);
+    }
+}
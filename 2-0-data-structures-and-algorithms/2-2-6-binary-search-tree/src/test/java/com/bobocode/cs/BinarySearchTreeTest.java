@@ -235,6 +235,105 @@ class BinarySearchTreeTest {
         assertThat(traversedElements).isEqualTo(List.of(sortedElements));
     }
 
+    @Test
+    @Order(20)
+    void remove() {
+        RecursiveBinarySearchTree<Integer> bst = RecursiveBinarySearchTree.of(50, 20, 80, 10, 30, 70, 90, 25, 35);
+
+        assertThat(bst.remove(10)).isTrue(); // leaf
+        assertThat(bst.remove(30)).isTrue(); // node with two children
+        assertThat(bst.remove(20)).isTrue(); // node with one child
+        assertThat(bst.remove(50)).isTrue(); // root
+
+        List<Integer> traversedElements = new ArrayList<>();
+        bst.inOrderTraversal(traversedElements::add);
+        assertThat(traversedElements).containsExactly(25, 35, 70, 80, 90);
+        assertThat(bst.size()).isEqualTo(5);
+        assertThat(bst.contains(50)).isFalse();
+    }
+
+    @Test
+    @Order(21)
+    void removeNotExistingElement() {
+        RecursiveBinarySearchTree<Integer> bst = RecursiveBinarySearchTree.of(someElements);
+
+        assertThat(bst.remove(100)).isFalse();
+        assertThat(bst.size()).isEqualTo(someElements.length);
+    }
+
+    @Test
+    @Order(22)
+    void removeAllElements() {
+        RecursiveBinarySearchTree<Integer> bst = RecursiveBinarySearchTree.of(someElements);
+
+        for (Integer e : someElements) {
+            assertThat(bst.remove(e)).isTrue();
+        }
+
+        assertThat(bst.size()).isEqualTo(0);
+        assertThat(bst.depth()).isEqualTo(0);
+        assertThat(bst.iterator().hasNext()).isFalse();
+    }
+
+    @Test
+    @Order(23)
+    void fromSortedBuildsBalancedTree() {
+        Integer[] sortedElements = new Integer[1023];
+        Arrays.setAll(sortedElements, i -> i * 2);
+
+        RecursiveBinarySearchTree<Integer> bst = RecursiveBinarySearchTree.fromSorted(sortedElements);
+
+        assertThat(bst.size()).isEqualTo(1023);
+        assertThat(bst.depth()).isEqualTo(9);
+        assertThat(bst.contains(1022)).isTrue();
+        assertThat(bst.contains(1023)).isFalse();
+        assertThat(bst.stream()).containsExactly(sortedElements);
+    }
+
+    @Test
+    @Order(24)
+    void fromSortedWithNotSortedElements() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> RecursiveBinarySearchTree.fromSorted(1, 3, 2));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> RecursiveBinarySearchTree.fromSorted(1, 2, 2));
+    }
+
+    @Test
+    @Order(25)
+    void rankAndSelect() {
+        RecursiveBinarySearchTree<Integer> bst = RecursiveBinarySearchTree.of(50, 20, 80, 10, 30, 70, 90);
+
+        assertThat(bst.rank(10)).isEqualTo(0);
+        assertThat(bst.rank(50)).isEqualTo(3);
+        assertThat(bst.rank(75)).isEqualTo(5);
+        assertThat(bst.rank(100)).isEqualTo(7);
+        assertThat(bst.select(0)).isEqualTo(10);
+        assertThat(bst.select(3)).isEqualTo(50);
+        assertThat(bst.select(6)).isEqualTo(90);
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)
+                .isThrownBy(() -> bst.select(7));
+    }
+
+    @Test
+    @Order(26)
+    void rankAndSelectAfterRemovals() {
+        Integer[] sortedElements = new Integer[100];
+        Arrays.setAll(sortedElements, i -> i);
+        RecursiveBinarySearchTree<Integer> bst = RecursiveBinarySearchTree.fromSorted(sortedElements);
+        for (int i = 0; i < 100; i += 2) {
+            bst.remove(i);
+        }
+        bst.insert(1000);
+
+        assertThat(bst.size()).isEqualTo(51);
+        for (int k = 0; k < 50; k++) {
+            assertThat(bst.select(k)).isEqualTo(2 * k + 1);
+            assertThat(bst.rank(2 * k + 1)).isEqualTo(k);
+        }
+        assertThat(bst.select(50)).isEqualTo(1000);
+    }
+
     public static Stream<Arguments> depthArguments() {
         return Stream.of(
                 //empty tree
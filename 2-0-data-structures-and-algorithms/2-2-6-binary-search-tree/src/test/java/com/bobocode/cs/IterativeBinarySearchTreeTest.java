@@ -0,0 +1,97 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IterativeBinarySearchTreeTest {
+
+    @Test
+    void insertAndContains() {
+        IterativeBinarySearchTree<Integer> tree = IterativeBinarySearchTree.of(10, 9, 11, 8, 12, 7);
+
+        assertThat(tree.size()).isEqualTo(6);
+        assertThat(tree.contains(7)).isTrue();
+        assertThat(tree.contains(12)).isTrue();
+        assertThat(tree.contains(13)).isFalse();
+        assertThat(tree.insert(10)).isFalse();
+    }
+
+    @Test
+    void insertNull() {
+        IterativeBinarySearchTree<Integer> tree = new IterativeBinarySearchTree<>();
+
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> tree.insert(null));
+    }
+
+    @Test
+    void depth() {
+        assertThat(new IterativeBinarySearchTree<Integer>().depth()).isEqualTo(0);
+        assertThat(IterativeBinarySearchTree.of(1).depth()).isEqualTo(0);
+        assertThat(IterativeBinarySearchTree.of(10, 9, 11, 8, 12, 7).depth()).isEqualTo(3);
+        assertThat(IterativeBinarySearchTree.of(10, 5, 15, 3, 7, 6, 8, 9).depth()).isEqualTo(4);
+        assertThat(IterativeBinarySearchTree.of(10, 5, 4, 3, 15, 12, 13, 14, 11).depth()).isEqualTo(4);
+    }
+
+    @Test
+    void deepDegenerateTree() {
+        IterativeBinarySearchTree<Integer> ascending = new IterativeBinarySearchTree<>();
+        IterativeBinarySearchTree<Integer> descending = new IterativeBinarySearchTree<>();
+        int size = 20_000;
+        for (int i = 0; i < size; i++) {
+            ascending.insert(i);
+            descending.insert(size - i);
+        }
+
+        assertThat(ascending.contains(size - 1)).isTrue();
+        assertThat(descending.contains(1)).isTrue();
+        assertThat(ascending.depth()).isEqualTo(size - 1);
+        assertThat(descending.depth()).isEqualTo(size - 1);
+        long[] count = new long[1];
+        ascending.inOrderTraversal(element -> count[0]++);
+        assertThat(count[0]).isEqualTo(size);
+    }
+
+    @Test
+    void inOrderTraversalMatchesTreeSet() {
+        Random random = new Random(42);
+        IterativeBinarySearchTree<Integer> tree = new IterativeBinarySearchTree<>();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            int element = random.nextInt(5_000);
+            assertThat(tree.insert(element)).isEqualTo(expected.add(element));
+        }
+
+        List<Integer> traversed = new ArrayList<>();
+        tree.inOrderTraversal(traversed::add);
+
+        assertThat(traversed).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void treeIsRestoredWhenConsumerThrowsException() {
+        IterativeBinarySearchTree<Integer> tree = IterativeBinarySearchTree.of(10, 5, 15, 3, 7, 12, 20);
+        List<Integer> traversed = new ArrayList<>();
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> tree.inOrderTraversal(element -> {
+                    if (element == 7) {
+                        throw new IllegalStateException();
+                    }
+                    traversed.add(element);
+                }));
+
+        assertThat(traversed).containsExactly(3, 5);
+        assertThat(tree.depth()).isEqualTo(2);
+        List<Integer> afterFailure = new ArrayList<>();
+        tree.inOrderTraversal(afterFailure::add);
+        assertThat(afterFailure).containsExactly(3, 5, 7, 10, 12, 15, 20);
+    }
+}
@@ -0,0 +1,127 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class LockFreeSkipListTest {
+
+    private final LockFreeSkipList<Integer> skipList = new LockFreeSkipList<>();
+
+    @Test
+    void insertAndContains() {
+        assertThat(skipList.insert(10)).isTrue();
+        assertThat(skipList.insert(5)).isTrue();
+        assertThat(skipList.insert(10)).isFalse();
+
+        assertThat(skipList.size()).isEqualTo(2);
+        assertThat(skipList.contains(5)).isTrue();
+        assertThat(skipList.contains(7)).isFalse();
+    }
+
+    @Test
+    void insertNull() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> skipList.insert(null));
+    }
+
+    @Test
+    void emptySkipList() {
+        assertThat(skipList.size()).isEqualTo(0);
+        assertThat(skipList.depth()).isEqualTo(0);
+        assertThat(skipList.contains(1)).isFalse();
+        assertThat(skipList.iterator().hasNext()).isFalse();
+    }
+
+    @Test
+    void depthGrowsLogarithmicallyForSortedInserts() {
+        int size = 100_000;
+        for (int i = 0; i < size; i++) {
+            skipList.insert(i);
+        }
+
+        assertThat(skipList.size()).isEqualTo(size);
+        assertThat(skipList.depth()).isBetween(10, 32);
+        assertThat(skipList.contains(size - 1)).isTrue();
+        assertThat(skipList.stream().limit(3)).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    void concurrentInsertsOfOverlappingElements() throws Exception {
+        int threads = 4;
+        int elements = 20_000;
+        AtomicInteger successfulInserts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * elements / threads;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    // every element is inserted by two threads
+                    for (int i = 0; i < elements / 2; i++) {
+                        if (skipList.insert((offset + i) % elements)) {
+                            successfulInserts.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(successfulInserts.get()).isEqualTo(elements);
+        assertThat(skipList.size()).isEqualTo(elements);
+        List<Integer> traversed = new ArrayList<>();
+        skipList.inOrderTraversal(traversed::add);
+        assertThat(traversed).isEqualTo(IntStream.range(0, elements).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void readersSeeElementsInOrderDuringInserts() throws Exception {
+        int elements = 20_000;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = elements - 1; i >= 0; i--) {
+                    skipList.insert(i);
+                }
+            });
+            while (!writer.isDone()) {
+                Integer previous = null;
+                for (Integer element : skipList) {
+                    if (previous != null) {
+                        assertThat(element).isGreaterThan(previous);
+                    }
+                    previous = element;
+                }
+                Thread.yield();
+            }
+            writer.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(skipList.size()).isEqualTo(elements);
+        assertThat(skipList.min()).isEqualTo(0);
+        assertThat(skipList.max()).isEqualTo(elements - 1);
+    }
+}
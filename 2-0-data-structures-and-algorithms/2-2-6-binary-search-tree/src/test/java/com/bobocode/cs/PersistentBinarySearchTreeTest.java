@@ -0,0 +1,124 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class PersistentBinarySearchTreeTest {
+
+    @Test
+    void insertReturnsNewVersion() {
+        PersistentBinarySearchTree<Integer> empty = PersistentBinarySearchTree.empty();
+        PersistentBinarySearchTree<Integer> first = empty.insert(10);
+        PersistentBinarySearchTree<Integer> second = first.insert(5);
+
+        assertThat(empty.isEmpty()).isTrue();
+        assertThat(first.size()).isEqualTo(1);
+        assertThat(first.contains(5)).isFalse();
+        assertThat(second.size()).isEqualTo(2);
+        assertThat(second.contains(5)).isTrue();
+        assertThat(second.contains(10)).isTrue();
+    }
+
+    @Test
+    void insertDuplicateReturnsSameVersion() {
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.of(1, 2, 3);
+
+        assertThat(tree.insert(2)).isSameAs(tree);
+    }
+
+    @Test
+    void insertNull() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> PersistentBinarySearchTree.<Integer>empty().insert(null));
+    }
+
+    @Test
+    void sortedInsertsKeepTreeBalanced() {
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+        for (int i = 0; i < 100_000; i++) {
+            tree = tree.insert(i);
+        }
+
+        assertThat(tree.size()).isEqualTo(100_000);
+        assertThat(tree.depth()).isLessThanOrEqualTo(24);
+        assertThat(tree.min()).isEqualTo(0);
+        assertThat(tree.max()).isEqualTo(99_999);
+    }
+
+    @Test
+    void oldVersionsAreNotChanged() {
+        Random random = new Random(42);
+        List<PersistentBinarySearchTree<Integer>> versions = new ArrayList<>();
+        List<TreeSet<Integer>> expectedVersions = new ArrayList<>();
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.empty();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 500; i++) {
+            int element = random.nextInt(1_000);
+            tree = tree.insert(element);
+            expected.add(element);
+            versions.add(tree);
+            expectedVersions.add(new TreeSet<>(expected));
+        }
+
+        for (int i = 0; i < versions.size(); i++) {
+            assertThat(versions.get(i)).containsExactlyElementsOf(expectedVersions.get(i));
+            assertThat(versions.get(i).size()).isEqualTo(expectedVersions.get(i).size());
+        }
+    }
+
+    @Test
+    void navigation() {
+        PersistentBinarySearchTree<Integer> tree = PersistentBinarySearchTree.of(50, 20, 80, 10, 30, 70, 90);
+        List<Integer> inRange = new ArrayList<>();
+
+        tree.rangeTraversal(25, 75, inRange::add);
+
+        assertThat(inRange).containsExactly(30, 50, 70);
+        assertThat(tree.floor(55)).isEqualTo(50);
+        assertThat(tree.ceiling(55)).isEqualTo(70);
+        assertThat(tree.floor(5)).isNull();
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> PersistentBinarySearchTree.<Integer>empty().min());
+    }
+
+    @Test
+    void readersSeeCompleteVersionsWhileWriterPublishes() throws Exception {
+        AtomicReference<PersistentBinarySearchTree<Integer>> current =
+                new AtomicReference<>(PersistentBinarySearchTree.empty());
+        int elements = 20_000;
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < elements; i++) {
+                    int element = i;
+                    current.updateAndGet(tree -> tree.insert(element));
+                }
+            });
+            while (!writer.isDone()) {
+                PersistentBinarySearchTree<Integer> snapshot = current.get();
+                int[] counted = new int[1];
+                snapshot.inOrderTraversal(element -> counted[0]++);
+                assertThat(counted[0]).isEqualTo(snapshot.size());
+                Thread.yield();
+            }
+            writer.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(current.get().size()).isEqualTo(elements);
+    }
+}
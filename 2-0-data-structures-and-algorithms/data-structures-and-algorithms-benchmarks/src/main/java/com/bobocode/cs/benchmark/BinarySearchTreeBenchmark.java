@@ -0,0 +1,107 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures insert, contains, remove and in-order traversal of {@link RecursiveBinarySearchTree} filled with random keys and
+ * compares it with {@link TreeSet}. Run it with {@code -prof gc} to see how much memory each operation allocates.
+ * <p>
+ * Keys are random, so the tree stays shallow enough for recursion even without rebalancing.
+ * {@link BinarySearchTreeInsertOrderBenchmark} covers sorted keys.
+ * <p>
+ * {@link BinarySearchTreeBenchmark#removeAll(Filled)} removes every key from a tree that is refilled before each
+ * invocation, so only the removal is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class BinarySearchTreeBenchmark {
+    private static final int LOOKUPS = 1 << 16;
+
+    @Param({"RecursiveBinarySearchTree", "java.util.TreeSet"})
+    private String implementation;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] keys;
+    private Integer[] lookupKeys;
+    private int cursor;
+    private OrderedSet<Integer> tree;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt();
+        }
+        lookupKeys = new Integer[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookupKeys[i] = i % 2 == 0 ? keys[random.nextInt(size)] : Integer.valueOf(random.nextInt());
+        }
+        tree = insertAll();
+    }
+
+    @Benchmark
+    public OrderedSet<Integer> insertAll() {
+        OrderedSet<Integer> newTree = Trees.createOrderedSet(implementation);
+        for (Integer key : keys) {
+            newTree.insert(key);
+        }
+        return newTree;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        cursor = (cursor + 1) & (LOOKUPS - 1);
+        return tree.contains(lookupKeys[cursor]);
+    }
+
+    @Benchmark
+    public int removeAll(Filled filled) {
+        int removed = 0;
+        for (Integer key : keys) {
+            if (filled.tree.remove(key)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    @Benchmark
+    public long inOrderTraversal() {
+        long[] sum = new long[1];
+        tree.inOrderTraversal(key -> sum[0] += key);
+        return sum[0];
+    }
+
+    @State(Scope.Thread)
+    public static class Filled {
+        private OrderedSet<Integer> tree;
+
+        @Setup(Level.Invocation)
+        public void fill(BinarySearchTreeBenchmark benchmark) {
+            tree = benchmark.insertAll();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.AvlBinarySearchTree;
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.IterativeBinarySearchTree;
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares {@link AvlBinarySearchTree} with {@link IterativeBinarySearchTree} and {@link RecursiveBinarySearchTree}
+ * when keys are inserted in ascending, descending and random order. Sorted keys turn a tree without rebalancing into
+ * a linked list, so its inserts and lookups take linear time.
+ * <p>
+ * Sizes are kept small enough for {@link RecursiveBinarySearchTree} not to overflow the thread stack on sorted keys.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinarySearchTreeInsertOrderBenchmark {
+    private static final int LOOKUPS = 1024;
+
+    @Param({"AvlBinarySearchTree", "IterativeBinarySearchTree", "RecursiveBinarySearchTree"})
+    private String implementation;
+
+    @Param({"SORTED", "REVERSE_SORTED", "RANDOM"})
+    private String order;
+
+    @Param({"1000", "5000"})
+    private int size;
+
+    private Integer[] keys;
+    private Integer[] lookupKeys;
+    private BinarySearchTree<Integer> tree;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        keys = keys(order, size);
+        Random random = new Random(42);
+        lookupKeys = random.ints(LOOKUPS, 0, size).boxed().toArray(Integer[]::new);
+        tree = insertAll();
+    }
+
+    private static Integer[] keys(String order, int size) {
+        switch (order) {
+            case "SORTED":
+                return IntStream.range(0, size).boxed().toArray(Integer[]::new);
+            case "REVERSE_SORTED":
+                return IntStream.range(0, size).map(i -> size - 1 - i).boxed().toArray(Integer[]::new);
+            case "RANDOM":
+                Integer[] keys = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+                Random random = new Random(42);
+                for (int i = keys.length - 1; i > 0; i--) {
+                    int j = random.nextInt(i + 1);
+                    Integer key = keys[i];
+                    keys[i] = keys[j];
+                    keys[j] = key;
+                }
+                return keys;
+            default:
+                throw new IllegalArgumentException("Unknown insert order: " + order);
+        }
+    }
+
+    @Benchmark
+    public BinarySearchTree<Integer> insertAll() {
+        BinarySearchTree<Integer> newTree = Trees.create(implementation);
+        for (Integer key : keys) {
+            newTree.insert(key);
+        }
+        return newTree;
+    }
+
+    @Benchmark
+    public int contains() {
+        int found = 0;
+        for (Integer key : lookupKeys) {
+            if (tree.contains(key)) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int depth() {
+        return tree.depth();
+    }
+}
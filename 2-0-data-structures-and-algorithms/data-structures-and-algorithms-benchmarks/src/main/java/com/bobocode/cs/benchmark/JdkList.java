@@ -0,0 +1,79 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.List;
+
+import java.util.Iterator;
+
+/**
+ * A {@link List} adapter for a {@link java.util.List}, so benchmarks can compare list implementations with their
+ * {@code java.util} equivalents through the same interface.
+ *
+ * @param <T> generic type parameter
+ */
+class JdkList<T> implements List<T> {
+    private final java.util.List<T> list;
+
+    JdkList(java.util.List<T> list) {
+        this.list = list;
+    }
+
+    @Override
+    public void add(T element) {
+        list.add(element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        list.add(index, element);
+    }
+
+    @Override
+    public void set(int index, T element) {
+        list.set(index, element);
+    }
+
+    @Override
+    public T get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public T getFirst() {
+        return list.get(0);
+    }
+
+    @Override
+    public T getLast() {
+        return list.get(list.size() - 1);
+    }
+
+    @Override
+    public T remove(int index) {
+        return list.remove(index);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return list.contains(element);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return list.iterator();
+    }
+}
@@ -0,0 +1,37 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.Queue;
+
+/**
+ * A {@link Queue} adapter for a {@link java.util.Queue}, so benchmarks can compare queue implementations with their
+ * {@code java.util} equivalents through the same interface.
+ *
+ * @param <T> generic type parameter
+ */
+class JdkQueue<T> implements Queue<T> {
+    private final java.util.Queue<T> queue;
+
+    JdkQueue(java.util.Queue<T> queue) {
+        this.queue = queue;
+    }
+
+    @Override
+    public void add(T element) {
+        queue.add(element);
+    }
+
+    @Override
+    public T poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+}
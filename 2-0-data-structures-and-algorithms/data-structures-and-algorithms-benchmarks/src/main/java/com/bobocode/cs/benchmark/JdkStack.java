@@ -0,0 +1,39 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.Stack;
+
+import java.util.Deque;
+
+/**
+ * A {@link Stack} adapter for a {@link Deque}, so benchmarks can compare stack implementations with their
+ * {@code java.util} equivalents through the same interface.
+ *
+ * @param <T> generic type parameter
+ */
+class JdkStack<T> implements Stack<T> {
+    private final Deque<T> deque;
+
+    JdkStack(Deque<T> deque) {
+        this.deque = deque;
+    }
+
+    @Override
+    public void push(T element) {
+        deque.push(element);
+    }
+
+    @Override
+    public T pop() {
+        return deque.pop();
+    }
+
+    @Override
+    public int size() {
+        return deque.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return deque.isEmpty();
+    }
+}
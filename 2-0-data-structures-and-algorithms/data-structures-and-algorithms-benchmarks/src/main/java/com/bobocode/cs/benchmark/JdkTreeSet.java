@@ -0,0 +1,34 @@
+package com.bobocode.cs.benchmark;
+
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * An {@link OrderedSet} adapter for a {@link TreeSet}, so benchmarks can compare tree implementations with
+ * the red-black tree from {@code java.util} through the same interface.
+ *
+ * @param <T> a type of elements that have natural order
+ */
+class JdkTreeSet<T extends Comparable<T>> implements OrderedSet<T> {
+    private final TreeSet<T> set = new TreeSet<>();
+
+    @Override
+    public boolean insert(T element) {
+        return set.add(element);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return set.contains(element);
+    }
+
+    @Override
+    public boolean remove(T element) {
+        return set.remove(element);
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        set.forEach(consumer);
+    }
+}
@@ -0,0 +1,68 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.AvlBinarySearchTree;
+import com.bobocode.cs.BTree;
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares lookups in {@link BTree} with {@link AvlBinarySearchTree} and {@link RecursiveBinarySearchTree} holding
+ * millions of random keys, when the trees are much bigger than CPU caches. Half of the looked up keys are in the tree.
+ * <p>
+ * A tree of 10 million elements needs about 1 GB of heap, so the benchmark forks a JVM with a bigger heap.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class LargeTreeLookupBenchmark {
+    private static final int LOOKUPS = 1 << 16;
+
+    @Param({"BTree", "AvlBinarySearchTree", "RecursiveBinarySearchTree"})
+    private String implementation;
+
+    @Param({"1000000", "10000000"})
+    private int size;
+
+    private BinarySearchTree<Integer> tree;
+    private Integer[] lookupKeys;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        tree = Trees.create(implementation);
+        Integer[] keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt();
+            tree.insert(keys[i]);
+        }
+        lookupKeys = new Integer[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookupKeys[i] = i % 2 == 0 ? keys[random.nextInt(size)] : Integer.valueOf(random.nextInt());
+        }
+    }
+
+    @Benchmark
+    public boolean contains() {
+        cursor = (cursor + 1) & (LOOKUPS - 1);
+        return tree.contains(lookupKeys[cursor]);
+    }
+}
@@ -0,0 +1,87 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayList;
+import com.bobocode.cs.LinkedList;
+import com.bobocode.cs.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures add, get, remove and contains of {@link ArrayList} and {@link LinkedList} and compares them with
+ * {@link java.util.ArrayList} and {@link java.util.LinkedList}. Run it with {@code -prof gc} to see how much memory
+ * each operation allocates.
+ * <p>
+ * {@link ListBenchmark#removeFirstAndAddLast()} keeps the size of the list stable, so an array list pays for shifting
+ * all its elements on every invocation, while a linked list unlinks its head in constant time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ListBenchmark {
+    private static final int LOOKUPS = 1024;
+
+    @Param({"ArrayList", "LinkedList", "java.util.ArrayList", "java.util.LinkedList"})
+    private String implementation;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] elements;
+    private int[] indexes;
+    private int cursor;
+    private List<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        indexes = random.ints(LOOKUPS, 0, size).toArray();
+        list = fill();
+    }
+
+    @Benchmark
+    public List<Integer> fill() {
+        List<Integer> newList = Lists.create(implementation);
+        for (Integer element : elements) {
+            newList.add(element);
+        }
+        return newList;
+    }
+
+    @Benchmark
+    public Integer getRandom() {
+        cursor = (cursor + 1) & (LOOKUPS - 1);
+        return list.get(indexes[cursor]);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return list.contains(-1);
+    }
+
+    @Benchmark
+    public Integer removeFirstAndAddLast() {
+        Integer element = list.remove(0);
+        list.add(element);
+        return element;
+    }
+}
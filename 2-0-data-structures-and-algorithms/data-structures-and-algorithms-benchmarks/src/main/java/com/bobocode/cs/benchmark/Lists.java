@@ -0,0 +1,35 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayList;
+import com.bobocode.cs.DoublyLinkedList;
+import com.bobocode.cs.LinkedList;
+import com.bobocode.cs.List;
+import com.bobocode.cs.UnrolledLinkedList;
+
+/**
+ * Creates {@link List} implementations by their simple class name, so benchmarks can take an implementation as
+ * a JMH parameter. Lists from {@code java.util} are created by their full class name.
+ */
+class Lists {
+    private Lists() {
+    }
+
+    static <T> List<T> create(String implementation) {
+        switch (implementation) {
+            case "ArrayList":
+                return new ArrayList<>();
+            case "LinkedList":
+                return new LinkedList<>();
+            case "DoublyLinkedList":
+                return new DoublyLinkedList<>();
+            case "UnrolledLinkedList":
+                return new UnrolledLinkedList<>();
+            case "java.util.ArrayList":
+                return new JdkList<>(new java.util.ArrayList<>());
+            case "java.util.LinkedList":
+                return new JdkList<>(new java.util.LinkedList<>());
+            default:
+                throw new IllegalArgumentException("Unknown list implementation: " + implementation);
+        }
+    }
+}
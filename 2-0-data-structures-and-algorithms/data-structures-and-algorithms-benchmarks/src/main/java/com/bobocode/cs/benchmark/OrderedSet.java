@@ -0,0 +1,20 @@
+package com.bobocode.cs.benchmark;
+
+import java.util.function.Consumer;
+
+/**
+ * The operations that {@link BinarySearchTreeBenchmark} measures, so it can compare a tree with {@link java.util.TreeSet}
+ * without asking {@link java.util.TreeSet} for what it does not expose, e.g. its depth. It has {@code remove}, which
+ * {@link com.bobocode.cs.BinarySearchTree} does not, so adapters wrap concrete trees that support it.
+ *
+ * @param <T> a type of elements that have natural order
+ */
+interface OrderedSet<T extends Comparable<T>> {
+    boolean insert(T element);
+
+    boolean contains(T element);
+
+    boolean remove(T element);
+
+    void inOrderTraversal(Consumer<T> consumer);
+}
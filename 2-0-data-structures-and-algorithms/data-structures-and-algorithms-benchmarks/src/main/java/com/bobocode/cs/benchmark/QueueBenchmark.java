@@ -0,0 +1,74 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.LinkedQueue;
+import com.bobocode.cs.Queue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures add and poll of {@link LinkedQueue} and compares it with {@link com.bobocode.cs.ArrayQueue},
+ * {@link ArrayDeque} and {@link java.util.LinkedList}. Run it with {@code -prof gc} to see that linked queues
+ * allocate a node per added element.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class QueueBenchmark {
+
+    @Param({"LinkedQueue", "ArrayQueue", "java.util.ArrayDeque", "java.util.LinkedList"})
+    private String implementation;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] elements;
+    private Queue<Integer> queue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        queue = Queues.create(implementation);
+        for (Integer element : elements) {
+            queue.add(element);
+        }
+    }
+
+    @Benchmark
+    public int addAllAndPollAll() {
+        Queue<Integer> newQueue = Queues.create(implementation);
+        for (Integer element : elements) {
+            newQueue.add(element);
+        }
+        int sum = 0;
+        for (Integer element = newQueue.poll(); element != null; element = newQueue.poll()) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Integer pollAndAdd() {
+        Integer element = queue.poll();
+        queue.add(element);
+        return element;
+    }
+}
@@ -0,0 +1,71 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.LinkedQueue;
+import com.bobocode.cs.LockFreeLinkedQueue;
+import com.bobocode.cs.Queue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of a queue shared by several threads, where every thread adds an element and then polls one.
+ * Compares {@link LockFreeLinkedQueue} with {@link LinkedQueue} guarded by a single lock.
+ * <p>
+ * The number of threads is set by JMH option {@code -t}. Method {@link QueueContentionBenchmark#main(String[])} runs
+ * the benchmark with 1, 2, 4, 8 and 16 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueContentionBenchmark {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+    private static final Integer ELEMENT = 42;
+
+    @Param({"LockFreeLinkedQueue", "SynchronizedLinkedQueue"})
+    private String implementation;
+
+    private Queue<Integer> queue;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        if (implementation.equals("LockFreeLinkedQueue")) {
+            queue = new LockFreeLinkedQueue<>();
+        } else {
+            queue = new SynchronizedQueue<>(new LinkedQueue<>());
+        }
+    }
+
+    @Benchmark
+    public Integer addAndPoll() {
+        queue.add(ELEMENT);
+        return queue.poll();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(QueueContentionBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayQueue;
+import com.bobocode.cs.LinkedQueue;
+import com.bobocode.cs.Queue;
+
+import java.util.ArrayDeque;
+
+/**
+ * Creates {@link Queue} implementations by their simple class name, so benchmarks can take an implementation as
+ * a JMH parameter. Queues from {@code java.util} are created by their full class name.
+ */
+class Queues {
+    private Queues() {
+    }
+
+    static <T> Queue<T> create(String implementation) {
+        switch (implementation) {
+            case "LinkedQueue":
+                return new LinkedQueue<>();
+            case "ArrayQueue":
+                return new ArrayQueue<>();
+            case "java.util.ArrayDeque":
+                return new JdkQueue<>(new ArrayDeque<>());
+            case "java.util.LinkedList":
+                return new JdkQueue<>(new java.util.LinkedList<>());
+            default:
+                throw new IllegalArgumentException("Unknown queue implementation: " + implementation);
+        }
+    }
+}
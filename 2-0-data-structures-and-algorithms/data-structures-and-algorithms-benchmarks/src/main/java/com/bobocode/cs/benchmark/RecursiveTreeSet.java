@@ -0,0 +1,34 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.RecursiveBinarySearchTree;
+
+import java.util.function.Consumer;
+
+/**
+ * An {@link OrderedSet} adapter for a {@link RecursiveBinarySearchTree}.
+ *
+ * @param <T> a type of elements that have natural order
+ */
+class RecursiveTreeSet<T extends Comparable<T>> implements OrderedSet<T> {
+    private final RecursiveBinarySearchTree<T> tree = new RecursiveBinarySearchTree<>();
+
+    @Override
+    public boolean insert(T element) {
+        return tree.insert(element);
+    }
+
+    @Override
+    public boolean contains(T element) {
+        return tree.contains(element);
+    }
+
+    @Override
+    public boolean remove(T element) {
+        return tree.remove(element);
+    }
+
+    @Override
+    public void inOrderTraversal(Consumer<T> consumer) {
+        tree.inOrderTraversal(consumer);
+    }
+}
@@ -0,0 +1,39 @@
+package com.bobocode.cs.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Runs {@link ListBenchmark}, {@link StackBenchmark}, {@link QueueBenchmark} and {@link BinarySearchTreeBenchmark}
+ * with the GC profiler and writes results to {@code target/regression.json}, so results of two builds can be compared
+ * to catch regressions. Command line arguments are passed to JMH, e.g. {@code -p size=1000} runs the smallest size
+ * only.
+ */
+public class RegressionSuite {
+    private static final Path RESULT_FILE = Path.of("target", "regression.json");
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        Files.createDirectories(RESULT_FILE.getParent());
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(ListBenchmark.class.getName())
+                .include(StackBenchmark.class.getName())
+                .include(QueueBenchmark.class.getName())
+                .include(BinarySearchTreeBenchmark.class.getName())
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(RESULT_FILE.toString())
+                .build();
+        new Runner(options).run();
+    }
+}
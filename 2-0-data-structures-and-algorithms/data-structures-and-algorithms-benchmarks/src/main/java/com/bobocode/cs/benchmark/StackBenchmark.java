@@ -0,0 +1,72 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.LinkedStack;
+import com.bobocode.cs.Stack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures push and pop of {@link LinkedStack} and compares it with {@link com.bobocode.cs.ArrayStack} and
+ * {@link ArrayDeque}. Run it with {@code -prof gc} to see that a linked stack allocates a node per push.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class StackBenchmark {
+
+    @Param({"LinkedStack", "ArrayStack", "java.util.ArrayDeque"})
+    private String implementation;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private Integer[] elements;
+    private Stack<Integer> stack;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        stack = Stacks.create(implementation);
+        for (Integer element : elements) {
+            stack.push(element);
+        }
+    }
+
+    @Benchmark
+    public int pushAllAndPopAll() {
+        Stack<Integer> newStack = Stacks.create(implementation);
+        for (Integer element : elements) {
+            newStack.push(element);
+        }
+        int sum = 0;
+        while (!newStack.isEmpty()) {
+            sum += newStack.pop();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Integer pushAndPop() {
+        stack.push(elements[0]);
+        return stack.pop();
+    }
+}
@@ -0,0 +1,29 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayStack;
+import com.bobocode.cs.LinkedStack;
+import com.bobocode.cs.Stack;
+
+import java.util.ArrayDeque;
+
+/**
+ * Creates {@link Stack} implementations by their simple class name, so benchmarks can take an implementation as
+ * a JMH parameter. {@link ArrayDeque} is created by its full class name.
+ */
+class Stacks {
+    private Stacks() {
+    }
+
+    static <T> Stack<T> create(String implementation) {
+        switch (implementation) {
+            case "LinkedStack":
+                return new LinkedStack<>();
+            case "ArrayStack":
+                return new ArrayStack<>();
+            case "java.util.ArrayDeque":
+                return new JdkStack<>(new ArrayDeque<>());
+            default:
+                throw new IllegalArgumentException("Unknown stack implementation: " + implementation);
+        }
+    }
+}
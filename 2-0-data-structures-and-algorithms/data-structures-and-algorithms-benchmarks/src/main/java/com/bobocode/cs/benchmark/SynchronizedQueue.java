@@ -0,0 +1,37 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.Queue;
+
+/**
+ * A {@link Queue} wrapper that guards every operation of the underlying queue with a single lock. It is a baseline
+ * for thread-safe queue implementations.
+ *
+ * @param <T> a generic parameter
+ */
+class SynchronizedQueue<T> implements Queue<T> {
+    private final Queue<T> queue;
+
+    SynchronizedQueue(Queue<T> queue) {
+        this.queue = queue;
+    }
+
+    @Override
+    public synchronized void add(T element) {
+        queue.add(element);
+    }
+
+    @Override
+    public synchronized T poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return queue.isEmpty();
+    }
+}
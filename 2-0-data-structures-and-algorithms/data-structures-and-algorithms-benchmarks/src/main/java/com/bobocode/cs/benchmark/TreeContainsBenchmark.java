@@ -0,0 +1,100 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.PersistentBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Measures contains of every tree after lookups of all the trees were run in the same JVM, so code that the trees
+ * share sees all of their node types, the same way as an application that uses several trees does.
+ * <p>
+ * Keys are random, so the trees without rebalancing stay shallow.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeContainsBenchmark {
+    private static final int LOOKUPS = 1 << 12;
+    private static final String PERSISTENT = "PersistentBinarySearchTree";
+
+    @Param({"RecursiveBinarySearchTree", "IterativeBinarySearchTree", "AvlBinarySearchTree", PERSISTENT})
+    private String implementation;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Integer[] lookupKeys;
+    private BinarySearchTree<Integer> tree;
+    private PersistentBinarySearchTree<Integer> persistentTree;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        Integer[] keys = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = random.nextInt();
+        }
+        lookupKeys = new Integer[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookupKeys[i] = i % 2 == 0 ? keys[random.nextInt(size)] : Integer.valueOf(random.nextInt());
+        }
+        persistentTree = PersistentBinarySearchTree.of(keys);
+        for (String other : new String[]{"RecursiveBinarySearchTree", "IterativeBinarySearchTree",
+                "AvlBinarySearchTree"}) {
+            BinarySearchTree<Integer> otherTree = Trees.create(other);
+            for (Integer key : keys) {
+                otherTree.insert(key);
+            }
+            warmUp(otherTree::contains);
+            if (other.equals(implementation)) {
+                tree = otherTree;
+            }
+        }
+        warmUp(persistentTree::contains);
+    }
+
+    private void warmUp(Predicate<Integer> contains) {
+        for (int i = 0; i < 200; i++) {
+            for (Integer key : lookupKeys) {
+                contains.test(key);
+            }
+        }
+    }
+
+    @Benchmark
+    public int contains() {
+        int found = 0;
+        if (PERSISTENT.equals(implementation)) {
+            for (Integer key : lookupKeys) {
+                if (persistentTree.contains(key)) {
+                    found++;
+                }
+            }
+        } else {
+            for (Integer key : lookupKeys) {
+                if (tree.contains(key)) {
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,86 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.LockFreeSkipList;
+import com.bobocode.cs.RecursiveBinarySearchTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of an ordered set shared by several threads, where every operation looks up or inserts
+ * a random key. Compares {@link LockFreeSkipList} with {@link RecursiveBinarySearchTree} guarded by a single lock.
+ * <p>
+ * The number of threads is set by JMH option {@code -t}. Method {@link TreeContentionBenchmark#main(String[])} runs
+ * the benchmark with 1, 2, 4, 8 and 16 threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeContentionBenchmark {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+    private static final int KEY_RANGE = 1 << 20;
+    private static final int INITIAL_SIZE = 100_000;
+
+    @Param({"LockFreeSkipList", "SynchronizedRecursiveBinarySearchTree"})
+    private String implementation;
+
+    @Param({"90"})
+    private int readPercent;
+
+    private BinarySearchTree<Integer> tree;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (implementation.equals("LockFreeSkipList")) {
+            tree = new LockFreeSkipList<>();
+        } else {
+            tree = new SynchronizedBinarySearchTree<>(new RecursiveBinarySearchTree<Integer>());
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < INITIAL_SIZE; i++) {
+            tree.insert(random.nextInt(KEY_RANGE));
+        }
+    }
+
+    @Benchmark
+    public boolean containsOrInsert() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer key = random.nextInt(KEY_RANGE);
+        if (random.nextInt(100) < readPercent) {
+            return tree.contains(key);
+        } else {
+            return tree.insert(key);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(TreeContentionBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
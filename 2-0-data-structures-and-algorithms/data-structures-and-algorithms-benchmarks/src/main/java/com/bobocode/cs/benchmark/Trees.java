@@ -0,0 +1,43 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.AvlBinarySearchTree;
+import com.bobocode.cs.BTree;
+import com.bobocode.cs.BinarySearchTree;
+import com.bobocode.cs.IterativeBinarySearchTree;
+import com.bobocode.cs.RecursiveBinarySearchTree;
+
+/**
+ * Creates {@link BinarySearchTree} implementations by their simple class name, so benchmarks can take an
+ * implementation as a JMH parameter. {@link java.util.TreeSet} is not a {@link BinarySearchTree}, so it is only
+ * created as an {@link OrderedSet} by its full class name.
+ */
+class Trees {
+    private Trees() {
+    }
+
+    static <T extends Comparable<T>> BinarySearchTree<T> create(String implementation) {
+        switch (implementation) {
+            case "RecursiveBinarySearchTree":
+                return new RecursiveBinarySearchTree<>();
+            case "IterativeBinarySearchTree":
+                return new IterativeBinarySearchTree<>();
+            case "AvlBinarySearchTree":
+                return new AvlBinarySearchTree<>();
+            case "BTree":
+                return new BTree<>();
+            default:
+                throw new IllegalArgumentException("Unknown tree implementation: " + implementation);
+        }
+    }
+
+    static <T extends Comparable<T>> OrderedSet<T> createOrderedSet(String implementation) {
+        switch (implementation) {
+            case "RecursiveBinarySearchTree":
+                return new RecursiveTreeSet<>();
+            case "java.util.TreeSet":
+                return new JdkTreeSet<>();
+            default:
+                throw new IllegalArgumentException("Unknown ordered set implementation: " + implementation);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.bobocode.cs.benchmark;
+
+import com.bobocode.cs.ArrayList;
+import com.bobocode.cs.LinkedList;
+import com.bobocode.cs.List;
+import com.bobocode.cs.UnrolledLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link UnrolledLinkedList} with {@link LinkedList} and {@link ArrayList} on a sequential scan, and on
+ * inserts and removals at random positions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnrolledLinkedListBenchmark {
+    private static final int RANDOM_INDEXES = 1024;
+
+    @Param({"UnrolledLinkedList", "LinkedList", "ArrayList"})
+    private String implementation;
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<Integer> list;
+    private int[] randomIndexes;
+    private int cursor;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        list = Lists.create(implementation);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        Random random = new Random(42);
+        randomIndexes = random.ints(RANDOM_INDEXES, 0, size).toArray();
+    }
+
+    private int nextIndex() {
+        cursor = (cursor + 1) & (RANDOM_INDEXES - 1);
+        return randomIndexes[cursor];
+    }
+
+    @Benchmark
+    public boolean sequentialScan() {
+        return list.contains(-1);
+    }
+
+    @Benchmark
+    public long iteration() {
+        long sum = 0;
+        for (Integer element : list) {
+            sum += element;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Integer randomInsertAndRemove() {
+        list.add(nextIndex(), -1);
+        return list.remove(nextIndex());
+    }
+}
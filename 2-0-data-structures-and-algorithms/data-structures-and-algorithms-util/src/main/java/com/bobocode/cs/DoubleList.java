@@ -0,0 +1,33 @@
+package com.bobocode.cs;
+
+/**
+ * {@link DoubleList} is a primitive-flavoured counterpart of {@link List} that stores {@code double} values without boxing
+ * them into wrapper objects.
+ */
+public interface DoubleList {
+    void add(double element);
+
+    void add(int index, double element);
+
+    void addAll(double[] elements);
+
+    void set(int index, double element);
+
+    double get(int index);
+
+    double getFirst();
+
+    double getLast();
+
+    double remove(int index);
+
+    boolean contains(double element);
+
+    boolean isEmpty();
+
+    int size();
+
+    void clear();
+
+    double[] toArray();
+}
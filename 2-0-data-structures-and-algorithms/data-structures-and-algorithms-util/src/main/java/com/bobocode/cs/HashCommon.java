@@ -0,0 +1,81 @@
+package com.bobocode.cs;
+
+/**
+ * {@link HashCommon} holds helpers shared by open-addressing hash tables. A table length is always a power of two,
+ * so a slot is found by masking a mixed hash code. Tables are filled up to three quarters of their length, which keeps
+ * linear probe sequences short and guarantees that every probe sequence ends at a free slot.
+ */
+final class HashCommon {
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private static final int INT_PHI = 0x9E3779B9;
+    private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+
+    private HashCommon() {
+    }
+
+    /**
+     * Spreads bits of a hash code, so keys that differ only in higher bits do not end up in the same slot.
+     *
+     * @param hashCode a hash code
+     * @return a mixed hash code
+     */
+    static int mix(int hashCode) {
+        int h = hashCode * INT_PHI;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Spreads bits of a long key, so keys that differ only in higher bits do not end up in the same slot.
+     *
+     * @param key a long key
+     * @return a mixed hash code
+     */
+    static int mix(long key) {
+        long h = key * LONG_PHI;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+    /**
+     * Returns the length of a table that can hold expectedSize elements without being resized.
+     *
+     * @param expectedSize a number of elements
+     * @return a power of two table length
+     * @throws IllegalArgumentException if expectedSize is negative or too big
+     */
+    static int tableLength(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative");
+        }
+        long needed = Math.max(2, (long) Math.ceil(expectedSize / 0.75));
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Expected size is too big: " + expectedSize);
+        }
+        return (int) Long.highestOneBit(needed - 1) << 1;
+    }
+
+    /**
+     * Returns max number of elements a table of provided length holds before it is resized.
+     *
+     * @param tableLength a power of two table length
+     * @return three quarters of the table length, but always less than the length
+     */
+    static int maxFill(int tableLength) {
+        return Math.min(tableLength - (tableLength >>> 2), tableLength - 1);
+    }
+
+    /**
+     * Returns the length of a table twice as big as provided one.
+     *
+     * @param tableLength a power of two table length
+     * @return a doubled table length
+     * @throws IllegalStateException if the table cannot grow anymore
+     */
+    static int grow(int tableLength) {
+        if (tableLength == MAX_CAPACITY) {
+            throw new IllegalStateException("Hash table is too big");
+        }
+        return tableLength << 1;
+    }
+}
@@ -0,0 +1,33 @@
+package com.bobocode.cs;
+
+/**
+ * {@link IntList} is a primitive-flavoured counterpart of {@link List} that stores {@code int} values without boxing
+ * them into wrapper objects.
+ */
+public interface IntList {
+    void add(int element);
+
+    void add(int index, int element);
+
+    void addAll(int[] elements);
+
+    void set(int index, int element);
+
+    int get(int index);
+
+    int getFirst();
+
+    int getLast();
+
+    int remove(int index);
+
+    boolean contains(int element);
+
+    boolean isEmpty();
+
+    int size();
+
+    void clear();
+
+    int[] toArray();
+}
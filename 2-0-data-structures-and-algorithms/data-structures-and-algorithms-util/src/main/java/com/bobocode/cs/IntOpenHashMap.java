@@ -0,0 +1,253 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+
+/**
+ * {@link IntOpenHashMap} is a primitive-flavoured counterpart of {@link OpenHashMap} that maps {@code int} keys to
+ * values without boxing the keys into wrapper objects. Keys and values are stored in two parallel arrays that are
+ * probed linearly, so the map does not allocate an entry object and a key wrapper per mapping as
+ * {@link java.util.HashMap} does.
+ * <p>
+ * An empty slot is marked with a zero key, so a value of the zero key is kept in separate fields. Null values are
+ * permitted, {@link IntOpenHashMap#containsKey(int)} tells a null value apart from a missing key.
+ *
+ * @param <V> a type of values
+ */
+public class IntOpenHashMap<V> {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    private int[] keys;
+    private Object[] values;
+    private boolean containsZeroKey;
+    private V zeroKeyValue;
+    private int mask;
+    private int maxFill;
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link IntOpenHashMap} that holds expectedSize entries without resizing.
+     *
+     * @param expectedSize - expected number of entries
+     * @throws IllegalArgumentException – if expectedSize is negative or too big
+     */
+    public IntOpenHashMap(int expectedSize) {
+        allocate(HashCommon.tableLength(expectedSize));
+    }
+
+    /**
+     * This constructor creates an instance of {@link IntOpenHashMap} that holds 16 entries without resizing.
+     */
+    public IntOpenHashMap() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    private void allocate(int tableLength) {
+        keys = new int[tableLength];
+        values = new Object[tableLength];
+        mask = tableLength - 1;
+        maxFill = HashCommon.maxFill(tableLength);
+    }
+
+    private int slot(int key) {
+        return HashCommon.mix(key) & mask;
+    }
+
+    private int find(int key) {
+        int pos = slot(key);
+        for (int current = keys[pos]; current != 0; current = keys[pos]) {
+            if (current == key) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a value that is mapped to the key.
+     *
+     * @param key a key to find
+     * @return the value mapped to the key or null if there is no such key
+     */
+    public V get(int key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * Returns a value that is mapped to the key, or a default value if there is no such key.
+     *
+     * @param key          a key to find
+     * @param defaultValue a value to return if there is no such key
+     * @return the value mapped to the key or the default value
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(int key, V defaultValue) {
+        if (key == 0) {
+            return containsZeroKey ? zeroKeyValue : defaultValue;
+        }
+        int pos = find(key);
+        return pos < 0 ? defaultValue : (V) values[pos];
+    }
+
+    /**
+     * Checks if the map contains a key.
+     *
+     * @param key a key to find
+     * @return {@code true} if the key exists, {@code false} otherwise
+     */
+    public boolean containsKey(int key) {
+        return key == 0 ? containsZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * Maps the value to the key, replacing a value that was mapped to the key before.
+     *
+     * @param key   a key
+     * @param value a value
+     * @return the previous value mapped to the key or null if there was no such key
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int key, V value) {
+        if (key == 0) {
+            V oldValue = zeroKeyValue;
+            zeroKeyValue = value;
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                size++;
+            }
+            return oldValue;
+        }
+        int pos = slot(key);
+        for (int current = keys[pos]; current != 0; current = keys[pos]) {
+            if (current == key) {
+                V oldValue = (V) values[pos];
+                values[pos] = value;
+                return oldValue;
+            }
+            pos = (pos + 1) & mask;
+        }
+        keys[pos] = key;
+        values[pos] = value;
+        if (++size > maxFill) {
+            rehash(HashCommon.grow(keys.length));
+        }
+        return null;
+    }
+
+    private void rehash(int tableLength) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(tableLength);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int pos = slot(oldKeys[i]);
+                while (keys[pos] != 0) {
+                    pos = (pos + 1) & mask;
+                }
+                keys[pos] = oldKeys[i];
+                values[pos] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Removes a key and its value from the map.
+     *
+     * @param key a key to remove
+     * @return the value that was mapped to the key or null if there was no such key
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        if (key == 0) {
+            V oldValue = zeroKeyValue;
+            if (containsZeroKey) {
+                containsZeroKey = false;
+                zeroKeyValue = null;
+                size--;
+            }
+            return oldValue;
+        }
+        int pos = find(key);
+        if (pos < 0) {
+            return null;
+        }
+        V oldValue = (V) values[pos];
+        shiftEntries(pos);
+        size--;
+        return oldValue;
+    }
+
+    /**
+     * Frees a slot and moves back entries that cannot be found anymore once the slot is free.
+     */
+    private void shiftEntries(int pos) {
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            int current;
+            while (true) {
+                current = keys[pos];
+                if (current == 0) {
+                    keys[last] = 0;
+                    values[last] = null;
+                    return;
+                }
+                int slot = slot(current);
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = current;
+            values[last] = values[pos];
+        }
+    }
+
+    /**
+     * Returns the number of entries in the map
+     *
+     * @return number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the map is empty
+     *
+     * @return {@code true} if the map is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all entries, the table keeps its length
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        containsZeroKey = false;
+        zeroKeyValue = null;
+        size = 0;
+    }
+
+    /**
+     * Returns a new array of the map keys in no particular order.
+     *
+     * @return an array of keys
+     */
+    public int[] keysToArray() {
+        int[] result = new int[size];
+        int index = 0;
+        if (containsZeroKey) {
+            result[index++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                result[index++] = key;
+            }
+        }
+        return result;
+    }
+}
@@ -1,7 +1,15 @@
 package com.bobocode.cs;
 
-
-public interface List<T> {
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link List} is an ordered collection of elements that can be accessed by their position index. Lists are
+ * {@link Iterable}, so traversing one with an iterator visits each element once, without looking it up by index.
+ *
+ * @param <T> generic type parameter
+ */
+public interface List<T> extends Iterable<T> {
     void add(T element);
 
     void add(int index, T element);
@@ -23,4 +31,23 @@ public interface List<T> {
     int size();
 
     void clear();
+
+    /**
+     * Returns a sequential {@link Stream} of list elements
+     *
+     * @return a stream of elements
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link Stream} of list elements. How well it is split between threads depends on
+     * the {@link java.util.Spliterator} provided by the implementation.
+     *
+     * @return a parallel stream of elements
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
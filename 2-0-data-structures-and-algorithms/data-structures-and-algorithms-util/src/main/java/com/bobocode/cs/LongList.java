@@ -0,0 +1,33 @@
+package com.bobocode.cs;
+
+/**
+ * {@link LongList} is a primitive-flavoured counterpart of {@link List} that stores {@code long} values without boxing
+ * them into wrapper objects.
+ */
+public interface LongList {
+    void add(long element);
+
+    void add(int index, long element);
+
+    void addAll(long[] elements);
+
+    void set(int index, long element);
+
+    long get(int index);
+
+    long getFirst();
+
+    long getLast();
+
+    long remove(int index);
+
+    boolean contains(long element);
+
+    boolean isEmpty();
+
+    int size();
+
+    void clear();
+
+    long[] toArray();
+}
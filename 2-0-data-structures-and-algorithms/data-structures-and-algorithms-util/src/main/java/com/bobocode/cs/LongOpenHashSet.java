@@ -0,0 +1,238 @@
+package com.bobocode.cs;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * {@link LongOpenHashSet} is a primitive-flavoured counterpart of {@link OpenHashSet} that stores {@code long} values
+ * without boxing them into wrapper objects. Elements are stored in a single {@code long} array that is probed linearly,
+ * so the set needs a few bytes per element instead of a node and a wrapper object per element as
+ * {@link java.util.HashSet} does.
+ * <p>
+ * An empty slot is marked with zero, so zero itself is kept in a separate flag.
+ */
+public class LongOpenHashSet {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    private long[] table;
+    private boolean containsZero;
+    private int mask;
+    private int maxFill;
+    private int size;
+
+    /**
+     * This constructor creates an instance of {@link LongOpenHashSet} that holds expectedSize elements without
+     * resizing.
+     *
+     * @param expectedSize - expected number of elements
+     * @throws IllegalArgumentException – if expectedSize is negative or too big
+     */
+    public LongOpenHashSet(int expectedSize) {
+        allocate(HashCommon.tableLength(expectedSize));
+    }
+
+    /**
+     * This constructor creates an instance of {@link LongOpenHashSet} that holds 16 elements without resizing.
+     */
+    public LongOpenHashSet() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * This method creates a set of provided elements
+     *
+     * @param elements elements to add
+     * @return a new set of elements the were passed as method parameters
+     */
+    public static LongOpenHashSet of(long... elements) {
+        LongOpenHashSet set = new LongOpenHashSet(elements.length);
+        for (long element : elements) {
+            set.add(element);
+        }
+        return set;
+    }
+
+    private void allocate(int tableLength) {
+        table = new long[tableLength];
+        mask = tableLength - 1;
+        maxFill = HashCommon.maxFill(tableLength);
+    }
+
+    private int slot(long element) {
+        return HashCommon.mix(element) & mask;
+    }
+
+    /**
+     * Adds an element to the set if it is not present yet.
+     *
+     * @param element an element to add
+     * @return {@code true} if the element was added, {@code false} if the set already contains it
+     */
+    public boolean add(long element) {
+        if (element == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int pos = slot(element);
+        for (long current = table[pos]; current != 0; current = table[pos]) {
+            if (current == element) {
+                return false;
+            }
+            pos = (pos + 1) & mask;
+        }
+        table[pos] = element;
+        if (++size > maxFill) {
+            rehash(HashCommon.grow(table.length));
+        }
+        return true;
+    }
+
+    private void rehash(int tableLength) {
+        long[] oldTable = table;
+        allocate(tableLength);
+        for (long element : oldTable) {
+            if (element != 0) {
+                int pos = slot(element);
+                while (table[pos] != 0) {
+                    pos = (pos + 1) & mask;
+                }
+                table[pos] = element;
+            }
+        }
+    }
+
+    /**
+     * Checks if the set contains an element.
+     *
+     * @param element an element to find
+     * @return {@code true} if the element exists, {@code false} otherwise
+     */
+    public boolean contains(long element) {
+        return element == 0 ? containsZero : find(element) >= 0;
+    }
+
+    private int find(long element) {
+        int pos = slot(element);
+        for (long current = table[pos]; current != 0; current = table[pos]) {
+            if (current == element) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Removes an element from the set.
+     *
+     * @param element an element to remove
+     * @return {@code true} if the element was removed, {@code false} if the set does not contain it
+     */
+    public boolean remove(long element) {
+        if (element == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int pos = find(element);
+        if (pos < 0) {
+            return false;
+        }
+        shiftElements(pos);
+        size--;
+        return true;
+    }
+
+    /**
+     * Frees a slot and moves back elements that cannot be found anymore once the slot is free.
+     */
+    private void shiftElements(int pos) {
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            long current;
+            while (true) {
+                current = table[pos];
+                if (current == 0) {
+                    table[last] = 0;
+                    return;
+                }
+                int slot = slot(current);
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            table[last] = current;
+        }
+    }
+
+    /**
+     * Returns the number of elements in the set
+     *
+     * @return number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the set is empty
+     *
+     * @return {@code true} if the set is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements, the table keeps its length
+     */
+    public void clear() {
+        Arrays.fill(table, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    /**
+     * Passes every element of the set to the consumer in no particular order.
+     *
+     * @param consumer accepts the set elements
+     */
+    public void forEach(LongConsumer consumer) {
+        if (containsZero) {
+            consumer.accept(0);
+        }
+        for (long element : table) {
+            if (element != 0) {
+                consumer.accept(element);
+            }
+        }
+    }
+
+    /**
+     * Returns a new array of the set elements in no particular order.
+     *
+     * @return an array of elements
+     */
+    public long[] toArray() {
+        long[] elements = new long[size];
+        int index = 0;
+        if (containsZero) {
+            elements[index++] = 0;
+        }
+        for (long element : table) {
+            if (element != 0) {
+                elements[index++] = element;
+            }
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,352 @@
+package com.bobocode.cs;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@link OpenHashMap} is a {@link Map} implementation that is based on open addressing with linear probing. Keys and
+ * values are stored in two parallel arrays, so the map does not allocate an entry object per mapping as
+ * {@link java.util.HashMap} does. Operations {@link OpenHashMap#get(Object)}, {@link OpenHashMap#put(Object, Object)}
+ * and {@link OpenHashMap#remove(Object)} take constant time O(1) on average.
+ * <p>
+ * Removal shifts following entries of the probe sequence back instead of leaving deleted markers, so lookups never
+ * slow down after many removals.
+ * <p>
+ * Null keys are not permitted, since an empty slot is marked with a null key. Null values are permitted.
+ *
+ * @param <K> a type of keys
+ * @param <V> a type of values
+ */
+public class OpenHashMap<K, V> extends AbstractMap<K, V> {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    private Object[] keys;
+    private Object[] values;
+    private int mask;
+    private int maxFill;
+    private int size;
+    private int modCount;
+    private Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * This constructor creates an instance of {@link OpenHashMap} that holds expectedSize entries without resizing.
+     *
+     * @param expectedSize - expected number of entries
+     * @throws IllegalArgumentException – if expectedSize is negative or too big
+     */
+    public OpenHashMap(int expectedSize) {
+        allocate(HashCommon.tableLength(expectedSize));
+    }
+
+    /**
+     * This constructor creates an instance of {@link OpenHashMap} that holds 16 entries without resizing.
+     */
+    public OpenHashMap() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    private void allocate(int tableLength) {
+        keys = new Object[tableLength];
+        values = new Object[tableLength];
+        mask = tableLength - 1;
+        maxFill = HashCommon.maxFill(tableLength);
+    }
+
+    private int slot(Object key) {
+        return HashCommon.mix(key.hashCode()) & mask;
+    }
+
+    private int find(Object key) {
+        int pos = slot(key);
+        for (Object current = keys[pos]; current != null; current = keys[pos]) {
+            if (current.equals(key)) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a value that is mapped to the key.
+     *
+     * @param key a key to find
+     * @return the value mapped to the key or null if there is no such key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        if (key == null) {
+            return null;
+        }
+        int pos = find(key);
+        return pos < 0 ? null : (V) values[pos];
+    }
+
+    /**
+     * Checks if the map contains a key.
+     *
+     * @param key a key to find
+     * @return {@code true} if the key exists, {@code false} otherwise
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return key != null && find(key) >= 0;
+    }
+
+    /**
+     * Checks if any key is mapped to the value. The whole table is scanned, so it takes linear time O(n).
+     *
+     * @param value a value to find
+     * @return {@code true} if the value exists, {@code false} otherwise
+     */
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null && Objects.equals(values[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Maps the value to the key, replacing a value that was mapped to the key before.
+     *
+     * @param key   a key
+     * @param value a value
+     * @return the previous value mapped to the key or null if there was no such key
+     * @throws NullPointerException if the key is null
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        Objects.requireNonNull(key);
+        int pos = slot(key);
+        for (Object current = keys[pos]; current != null; current = keys[pos]) {
+            if (current.equals(key)) {
+                V oldValue = (V) values[pos];
+                values[pos] = value;
+                return oldValue;
+            }
+            pos = (pos + 1) & mask;
+        }
+        keys[pos] = key;
+        values[pos] = value;
+        if (++size > maxFill) {
+            rehash(HashCommon.grow(keys.length));
+        }
+        modCount++;
+        return null;
+    }
+
+    private void rehash(int tableLength) {
+        Object[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(tableLength);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int pos = slot(oldKeys[i]);
+                while (keys[pos] != null) {
+                    pos = (pos + 1) & mask;
+                }
+                keys[pos] = oldKeys[i];
+                values[pos] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Removes a key and its value from the map.
+     *
+     * @param key a key to remove
+     * @return the value that was mapped to the key or null if there was no such key
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        if (key == null) {
+            return null;
+        }
+        int pos = find(key);
+        if (pos < 0) {
+            return null;
+        }
+        V oldValue = (V) values[pos];
+        shiftEntries(pos, null);
+        size--;
+        modCount++;
+        return oldValue;
+    }
+
+    /**
+     * Frees a slot and moves back entries that cannot be found anymore once the slot is free. When an entry moves
+     * from the beginning of the table to its end, its key is passed to the iterator, since the iterator would miss it.
+     */
+    private void shiftEntries(int pos, EntryIterator iterator) {
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            Object current;
+            while (true) {
+                current = keys[pos];
+                if (current == null) {
+                    keys[last] = null;
+                    values[last] = null;
+                    return;
+                }
+                int slot = slot(current);
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            if (iterator != null && pos < last) {
+                iterator.wrapped(current);
+            }
+            keys[last] = current;
+            values[last] = values[pos];
+        }
+    }
+
+    /**
+     * Returns the number of entries in the map
+     *
+     * @return number of entries
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all entries, the table keeps its length
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(keys, null);
+        Arrays.fill(values, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a set view of the map entries. Its fail-fast iterator supports removal, and
+     * {@link Map.Entry#setValue(Object)} writes through to the map until the map is structurally modified.
+     *
+     * @return a set of the map entries
+     */
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<K, V>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public void clear() {
+                    OpenHashMap.this.clear();
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    private class MapEntry extends SimpleEntry<K, V> {
+        private final int pos;
+
+        private MapEntry(int pos) {
+            super(OpenHashMap.this.keyAt(pos), OpenHashMap.this.valueAt(pos));
+            this.pos = pos;
+        }
+
+        @Override
+        public V setValue(V value) {
+            values[pos] = value;
+            return super.setValue(value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int pos) {
+        return (K) keys[pos];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int pos) {
+        return (V) values[pos];
+    }
+
+    /**
+     * Walks the table from its end, so removal never moves an entry that is not visited yet to a visited slot,
+     * except the entries of a probe sequence that wraps around the table end, which are collected separately.
+     */
+    private class EntryIterator implements Iterator<Map.Entry<K, V>> {
+        private int pos = keys.length;
+        private int remaining = size;
+        private int last = -1;
+        private java.util.List<Object> wrapped;
+        private int expectedModCount = modCount;
+
+        private void wrapped(Object key) {
+            if (wrapped == null) {
+                wrapped = new ArrayList<>(2);
+            }
+            wrapped.add(key);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            while (--pos >= 0) {
+                if (keys[pos] != null) {
+                    last = pos;
+                    return new MapEntry(pos);
+                }
+            }
+            last = find(wrapped.get(-pos - 1));
+            return new MapEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last == -1) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            shiftEntries(last, pos >= 0 ? this : null);
+            size--;
+            modCount++;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.bobocode.cs;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * {@link OpenHashSet} is a {@link java.util.Set} implementation that is based on open addressing with linear probing.
+ * Elements are stored right in a single array, so the set does not allocate a node per element as
+ * {@link java.util.HashSet} does, and a lookup usually reads one or two neighbouring slots. Operations
+ * {@link OpenHashSet#add(Object)}, {@link OpenHashSet#contains(Object)} and {@link OpenHashSet#remove(Object)} take
+ * constant time O(1) on average.
+ * <p>
+ * Removal shifts following elements of the probe sequence back instead of leaving deleted markers, so lookups never
+ * slow down after many removals.
+ * <p>
+ * Null elements are not permitted, since an empty slot is marked with null.
+ *
+ * @param <T> generic type parameter
+ */
+public class OpenHashSet<T> extends AbstractSet<T> {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    private Object[] table;
+    private int mask;
+    private int maxFill;
+    private int size;
+    private int modCount;
+
+    /**
+     * This constructor creates an instance of {@link OpenHashSet} that holds expectedSize elements without resizing.
+     *
+     * @param expectedSize - expected number of elements
+     * @throws IllegalArgumentException – if expectedSize is negative or too big
+     */
+    public OpenHashSet(int expectedSize) {
+        allocate(HashCommon.tableLength(expectedSize));
+    }
+
+    /**
+     * This constructor creates an instance of {@link OpenHashSet} that holds 16 elements without resizing.
+     */
+    public OpenHashSet() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * This method creates a set of provided elements
+     *
+     * @param elements elements to add
+     * @param <T>      generic type
+     * @return a new set of elements the were passed as method parameters
+     */
+    @SafeVarargs
+    public static <T> OpenHashSet<T> of(T... elements) {
+        OpenHashSet<T> set = new OpenHashSet<>(elements.length);
+        for (T element : elements) {
+            set.add(element);
+        }
+        return set;
+    }
+
+    private void allocate(int tableLength) {
+        table = new Object[tableLength];
+        mask = tableLength - 1;
+        maxFill = HashCommon.maxFill(tableLength);
+    }
+
+    private int slot(Object element) {
+        return HashCommon.mix(element.hashCode()) & mask;
+    }
+
+    /**
+     * Adds an element to the set if it is not present yet.
+     *
+     * @param element an element to add
+     * @return {@code true} if the element was added, {@code false} if the set already contains it
+     * @throws NullPointerException if the element is null
+     */
+    @Override
+    public boolean add(T element) {
+        Objects.requireNonNull(element);
+        int pos = slot(element);
+        for (Object current = table[pos]; current != null; current = table[pos]) {
+            if (current.equals(element)) {
+                return false;
+            }
+            pos = (pos + 1) & mask;
+        }
+        table[pos] = element;
+        if (++size > maxFill) {
+            rehash(HashCommon.grow(table.length));
+        }
+        modCount++;
+        return true;
+    }
+
+    private void rehash(int tableLength) {
+        Object[] oldTable = table;
+        allocate(tableLength);
+        for (Object element : oldTable) {
+            if (element != null) {
+                int pos = slot(element);
+                while (table[pos] != null) {
+                    pos = (pos + 1) & mask;
+                }
+                table[pos] = element;
+            }
+        }
+    }
+
+    /**
+     * Checks if the set contains an element.
+     *
+     * @param element an element to find
+     * @return {@code true} if the element exists, {@code false} otherwise
+     */
+    @Override
+    public boolean contains(Object element) {
+        return element != null && find(element) >= 0;
+    }
+
+    private int find(Object element) {
+        int pos = slot(element);
+        for (Object current = table[pos]; current != null; current = table[pos]) {
+            if (current.equals(element)) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Removes an element from the set.
+     *
+     * @param element an element to remove
+     * @return {@code true} if the element was removed, {@code false} if the set does not contain it
+     */
+    @Override
+    public boolean remove(Object element) {
+        if (element == null) {
+            return false;
+        }
+        int pos = find(element);
+        if (pos < 0) {
+            return false;
+        }
+        shiftElements(pos, null);
+        size--;
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Frees a slot and moves back elements that cannot be found anymore once the slot is free. When an element moves
+     * from the beginning of the table to its end, it is passed to the iterator, since the iterator would miss it.
+     */
+    private void shiftElements(int pos, OpenHashSetIterator iterator) {
+        while (true) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            Object current;
+            while (true) {
+                current = table[pos];
+                if (current == null) {
+                    table[last] = null;
+                    return;
+                }
+                int slot = slot(current);
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            if (iterator != null && pos < last) {
+                iterator.wrapped(current);
+            }
+            table[last] = current;
+        }
+    }
+
+    /**
+     * Returns the number of elements in the set
+     *
+     * @return number of elements
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all elements, the table keeps its length
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(table, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns a fail-fast iterator over the set elements. The iterator supports removal.
+     *
+     * @return an iterator over the set elements
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new OpenHashSetIterator();
+    }
+
+    /**
+     * Walks the table from its end, so removal never moves an element that is not visited yet to a visited slot,
+     * except the elements of a probe sequence that wraps around the table end, which are collected separately.
+     */
+    private class OpenHashSetIterator implements Iterator<T> {
+        private int pos = table.length;
+        private int remaining = size;
+        private int last = -1;
+        private Object lastReturned;
+        private java.util.List<Object> wrapped;
+        private int expectedModCount = modCount;
+
+        private void wrapped(Object element) {
+            if (wrapped == null) {
+                wrapped = new ArrayList<>(2);
+            }
+            wrapped.add(element);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            remaining--;
+            while (--pos >= 0) {
+                if (table[pos] != null) {
+                    last = pos;
+                    lastReturned = table[pos];
+                    return (T) lastReturned;
+                }
+            }
+            last = Integer.MIN_VALUE;
+            lastReturned = wrapped.get(-pos - 1);
+            return (T) lastReturned;
+        }
+
+        @Override
+        public void remove() {
+            if (last == -1) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (pos >= 0) {
+                shiftElements(last, this);
+                size--;
+                modCount++;
+            } else {
+                OpenHashSet.this.remove(lastReturned);
+            }
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IntOpenHashMapTest {
+
+    private IntOpenHashMap<String> map = new IntOpenHashMap<>();
+
+    @Test
+    void putAndGet() {
+        assertThat(map.put(1, "A")).isNull();
+        assertThat(map.put(2, "B")).isNull();
+        assertThat(map.put(1, "C")).isEqualTo("A");
+
+        assertThat(map.get(1)).isEqualTo("C");
+        assertThat(map.get(2)).isEqualTo("B");
+        assertThat(map.get(3)).isNull();
+        assertThat(map.getOrDefault(3, "D")).isEqualTo("D");
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void zeroKey() {
+        assertThat(map.put(0, "A")).isNull();
+        assertThat(map.put(0, "B")).isEqualTo("A");
+
+        assertThat(map.get(0)).isEqualTo("B");
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.remove(0)).isEqualTo("B");
+        assertThat(map.containsKey(0)).isFalse();
+        assertThat(map.isEmpty()).isTrue();
+    }
+
+    @Test
+    void nullValue() {
+        map.put(1, null);
+
+        assertThat(map.containsKey(1)).isTrue();
+        assertThat(map.getOrDefault(1, "A")).isNull();
+    }
+
+    @Test
+    void removeKeepsCollidingKeysReachable() {
+        map = new IntOpenHashMap<>(4);
+        Map<Integer, String> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(64);
+            if (random.nextBoolean()) {
+                assertThat(map.put(key, "value" + i)).isEqualTo(expected.put(key, "value" + i));
+            } else {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            }
+        }
+
+        assertThat(map.keysToArray())
+                .containsExactlyInAnyOrder(expected.keySet().stream().mapToInt(Integer::intValue).toArray());
+        expected.forEach((key, value) -> assertThat(map.get(key)).isEqualTo(value));
+    }
+
+    @Test
+    void clear() {
+        map.put(0, "A");
+        map.put(1, "B");
+
+        map.clear();
+
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(0)).isNull();
+        assertThat(map.get(1)).isNull();
+    }
+}
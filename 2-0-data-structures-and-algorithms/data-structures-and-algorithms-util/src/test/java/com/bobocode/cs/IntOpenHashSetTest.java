@@ -0,0 +1,96 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class IntOpenHashSetTest {
+
+    private IntOpenHashSet set = new IntOpenHashSet();
+
+    @Test
+    void addAndContains() {
+        assertThat(set.add(10)).isTrue();
+        assertThat(set.add(-5)).isTrue();
+        assertThat(set.add(10)).isFalse();
+
+        assertThat(set.contains(10)).isTrue();
+        assertThat(set.contains(-5)).isTrue();
+        assertThat(set.contains(7)).isFalse();
+        assertThat(set.size()).isEqualTo(2);
+    }
+
+    @Test
+    void zeroElement() {
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.add(0)).isTrue();
+        assertThat(set.add(0)).isFalse();
+
+        assertThat(set.contains(0)).isTrue();
+        assertThat(set.toArray()).containsExactly(0);
+        assertThat(set.remove(0)).isTrue();
+        assertThat(set.isEmpty()).isTrue();
+    }
+
+    @Test
+    void addGrowsTable() {
+        set = new IntOpenHashSet(0);
+        for (int i = 0; i < 1000; i++) {
+            set.add(i * 1024);
+        }
+
+        assertThat(set.size()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(set.contains(i * 1024)).isTrue();
+        }
+    }
+
+    @Test
+    void constructorWithNegativeExpectedSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new IntOpenHashSet(-1));
+    }
+
+    @Test
+    void removeKeepsCollidingElementsReachable() {
+        set = new IntOpenHashSet(4);
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int element = random.nextInt(64);
+            if (random.nextBoolean()) {
+                assertThat(set.add(element)).isEqualTo(expected.add(element));
+            } else {
+                assertThat(set.remove(element)).isEqualTo(expected.remove(element));
+            }
+        }
+
+        assertThat(set.toArray()).containsExactlyInAnyOrder(expected.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    @Test
+    void forEach() {
+        set = IntOpenHashSet.of(0, 1, 2, 3);
+        int[] sum = new int[1];
+
+        set.forEach(element -> sum[0] += element);
+
+        assertThat(sum[0]).isEqualTo(6);
+    }
+
+    @Test
+    void clear() {
+        set = IntOpenHashSet.of(0, 1, 2);
+
+        set.clear();
+
+        assertThat(set.isEmpty()).isTrue();
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.contains(1)).isFalse();
+    }
+}
@@ -0,0 +1,45 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongOpenHashMapTest {
+
+    private LongOpenHashMap<String> map = new LongOpenHashMap<>();
+
+    @Test
+    void putAndGet() {
+        assertThat(map.put(1L, "A")).isNull();
+        assertThat(map.put(Long.MIN_VALUE, "B")).isNull();
+        assertThat(map.put(1L, "C")).isEqualTo("A");
+
+        assertThat(map.get(1L)).isEqualTo("C");
+        assertThat(map.get(Long.MIN_VALUE)).isEqualTo("B");
+        assertThat(map.get(2L)).isNull();
+    }
+
+    @Test
+    void keysThatDifferInHigherBits() {
+        map = new LongOpenHashMap<>(0);
+        for (long i = 1; i <= 1000; i++) {
+            map.put(i << 32, "value" + i);
+        }
+
+        assertThat(map.size()).isEqualTo(1000);
+        assertThat(map.get(5L << 32)).isEqualTo("value5");
+        assertThat(map.get(5L)).isNull();
+    }
+
+    @Test
+    void remove() {
+        map.put(0L, "A");
+        map.put(1L, "B");
+
+        assertThat(map.remove(0L)).isEqualTo("A");
+        assertThat(map.remove(1L)).isEqualTo("B");
+        assertThat(map.remove(1L)).isNull();
+
+        assertThat(map.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,44 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongOpenHashSetTest {
+
+    private LongOpenHashSet set = new LongOpenHashSet();
+
+    @Test
+    void addAndContains() {
+        assertThat(set.add(10L)).isTrue();
+        assertThat(set.add(Long.MAX_VALUE)).isTrue();
+        assertThat(set.add(10L)).isFalse();
+
+        assertThat(set.contains(10L)).isTrue();
+        assertThat(set.contains(Long.MAX_VALUE)).isTrue();
+        assertThat(set.contains(7L)).isFalse();
+    }
+
+    @Test
+    void keysThatDifferInHigherBits() {
+        set = new LongOpenHashSet(0);
+        for (long i = 1; i <= 1000; i++) {
+            set.add(i << 32);
+        }
+
+        assertThat(set.size()).isEqualTo(1000);
+        assertThat(set.contains(5L << 32)).isTrue();
+        assertThat(set.contains(5L)).isFalse();
+    }
+
+    @Test
+    void remove() {
+        set = LongOpenHashSet.of(0L, 1L, 2L);
+
+        assertThat(set.remove(0L)).isTrue();
+        assertThat(set.remove(1L)).isTrue();
+        assertThat(set.remove(1L)).isFalse();
+
+        assertThat(set.toArray()).containsExactly(2L);
+    }
+}
@@ -0,0 +1,143 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.entry;
+
+class OpenHashMapTest {
+
+    private OpenHashMap<String, Integer> map = new OpenHashMap<>();
+
+    @Test
+    void putAndGet() {
+        assertThat(map.put("A", 1)).isNull();
+        assertThat(map.put("B", 2)).isNull();
+        assertThat(map.put("A", 3)).isEqualTo(1);
+
+        assertThat(map.get("A")).isEqualTo(3);
+        assertThat(map.get("B")).isEqualTo(2);
+        assertThat(map.get("C")).isNull();
+        assertThat(map.get(null)).isNull();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @Test
+    void putGrowsTable() {
+        map = new OpenHashMap<>(0);
+        for (int i = 0; i < 1000; i++) {
+            map.put("key" + i, i);
+        }
+
+        assertThat(map.size()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(map.get("key" + i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void putNullKeyThrowsException() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> map.put(null, 1));
+    }
+
+    @Test
+    void nullValues() {
+        map.put("A", null);
+
+        assertThat(map.containsKey("A")).isTrue();
+        assertThat(map.containsValue(null)).isTrue();
+        assertThat(map.getOrDefault("A", 1)).isNull();
+    }
+
+    @Test
+    void remove() {
+        map.put("A", 1);
+        map.put("B", 2);
+
+        assertThat(map.remove("A")).isEqualTo(1);
+        assertThat(map.remove("A")).isNull();
+        assertThat(map.remove(null)).isNull();
+
+        assertThat(map).containsExactly(entry("B", 2));
+    }
+
+    @Test
+    void removeKeepsCollidingKeysReachable() {
+        OpenHashMap<Integer, Integer> integers = new OpenHashMap<>(4);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(64);
+            if (random.nextBoolean()) {
+                assertThat(integers.put(key, i)).isEqualTo(expected.put(key, i));
+            } else {
+                assertThat(integers.remove(key)).isEqualTo(expected.remove(key));
+            }
+        }
+
+        assertThat(integers).isEqualTo(expected);
+    }
+
+    @Test
+    void entrySetValueWritesThrough() {
+        map.put("A", 1);
+
+        map.entrySet().iterator().next().setValue(2);
+
+        assertThat(map.get("A")).isEqualTo(2);
+    }
+
+    @Test
+    void entryIteratorRemove() {
+        OpenHashMap<Integer, Integer> integers = new OpenHashMap<>(4);
+        Random random = new Random(42);
+        for (int round = 0; round < 1000; round++) {
+            integers.clear();
+            Map<Integer, Integer> expected = new HashMap<>();
+            for (int i = 0; i < 24; i++) {
+                int key = random.nextInt(1000);
+                integers.put(key, i);
+                expected.put(key, i);
+            }
+            Map<Integer, Integer> visited = new HashMap<>();
+            for (Iterator<Map.Entry<Integer, Integer>> iterator = integers.entrySet().iterator(); iterator.hasNext(); ) {
+                Map.Entry<Integer, Integer> entry = iterator.next();
+                assertThat(visited.put(entry.getKey(), entry.getValue())).isNull();
+                if (entry.getKey() % 2 == 0) {
+                    iterator.remove();
+                }
+            }
+
+            assertThat(visited).isEqualTo(expected);
+            expected.keySet().removeIf(key -> key % 2 == 0);
+            assertThat(integers).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void views() {
+        map.put("A", 1);
+        map.put("B", 2);
+
+        assertThat(map.keySet()).containsExactlyInAnyOrder("A", "B");
+        assertThat(map.values()).containsExactlyInAnyOrder(1, 2);
+        assertThat(map).isEqualTo(Map.of("A", 1, "B", 2));
+    }
+
+    @Test
+    void clear() {
+        map.put("A", 1);
+
+        map.entrySet().clear();
+
+        assertThat(map).isEmpty();
+        assertThat(map.containsKey("A")).isFalse();
+    }
+}
@@ -0,0 +1,169 @@
+package com.bobocode.cs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class OpenHashSetTest {
+
+    private OpenHashSet<String> set = new OpenHashSet<>();
+
+    @Test
+    void addAndContains() {
+        assertThat(set.add("A")).isTrue();
+        assertThat(set.add("B")).isTrue();
+        assertThat(set.add("A")).isFalse();
+
+        assertThat(set.contains("A")).isTrue();
+        assertThat(set.contains("B")).isTrue();
+        assertThat(set.contains("C")).isFalse();
+        assertThat(set.size()).isEqualTo(2);
+    }
+
+    @Test
+    void addGrowsTable() {
+        set = new OpenHashSet<>(0);
+        for (int i = 0; i < 1000; i++) {
+            set.add("element" + i);
+        }
+
+        assertThat(set.size()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(set.contains("element" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void addNullThrowsException() {
+        assertThatExceptionOfType(NullPointerException.class)
+                .isThrownBy(() -> set.add(null));
+    }
+
+    @Test
+    void containsNull() {
+        set = OpenHashSet.of("A");
+
+        assertThat(set.contains(null)).isFalse();
+    }
+
+    @Test
+    void constructorWithNegativeExpectedSize() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new OpenHashSet<>(-1));
+    }
+
+    @Test
+    void remove() {
+        set = OpenHashSet.of("A", "B", "C");
+
+        assertThat(set.remove("B")).isTrue();
+        assertThat(set.remove("B")).isFalse();
+        assertThat(set.remove(null)).isFalse();
+
+        assertThat(set).containsExactlyInAnyOrder("A", "C");
+    }
+
+    @Test
+    void removeKeepsCollidingElementsReachable() {
+        OpenHashSet<Integer> integers = new OpenHashSet<>(4);
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int element = random.nextInt(64);
+            if (random.nextBoolean()) {
+                assertThat(integers.add(element)).isEqualTo(expected.add(element));
+            } else {
+                assertThat(integers.remove(element)).isEqualTo(expected.remove(element));
+            }
+        }
+
+        assertThat(integers).isEqualTo(expected);
+    }
+
+    @Test
+    void clear() {
+        set = OpenHashSet.of("A", "B");
+
+        set.clear();
+
+        assertThat(set).isEmpty();
+        assertThat(set.contains("A")).isFalse();
+    }
+
+    @Test
+    void iterator() {
+        set = OpenHashSet.of("A", "B", "C");
+
+        assertThat(set.iterator()).toIterable().containsExactlyInAnyOrder("A", "B", "C");
+    }
+
+    @Test
+    void iteratorOnEmptySet() {
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> set.iterator().next());
+    }
+
+    @Test
+    void iteratorRemoveVisitsEveryElementOnce() {
+        OpenHashSet<Integer> integers = new OpenHashSet<>(4);
+        Random random = new Random(42);
+        for (int round = 0; round < 1000; round++) {
+            integers.clear();
+            Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < 24; i++) {
+                int element = random.nextInt(1000);
+                integers.add(element);
+                expected.add(element);
+            }
+            Set<Integer> original = new HashSet<>(expected);
+            Set<Integer> visited = new HashSet<>();
+            for (Iterator<Integer> iterator = integers.iterator(); iterator.hasNext(); ) {
+                Integer element = iterator.next();
+                assertThat(visited.add(element)).isTrue();
+                if (element % 2 == 0) {
+                    iterator.remove();
+                    expected.remove(element);
+                }
+            }
+
+            assertThat(visited).isEqualTo(original);
+            assertThat(integers).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void iteratorRemoveWithoutNext() {
+        set = OpenHashSet.of("A");
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> set.iterator().remove());
+    }
+
+    @Test
+    void iteratorIsFailFast() {
+        set = OpenHashSet.of("A", "B");
+        Iterator<String> iterator = set.iterator();
+        iterator.next();
+
+        set.add("C");
+
+        assertThatExceptionOfType(ConcurrentModificationException.class)
+                .isThrownBy(iterator::next);
+    }
+
+    @Test
+    void equalsToOtherSets() {
+        set = OpenHashSet.of("A", "B");
+
+        assertThat(set).isEqualTo(Set.of("A", "B"));
+        assertThat(set.hashCode()).isEqualTo(Set.of("A", "B").hashCode());
+    }
+}
@@ -0,0 +1,233 @@
+package com.bobocode.se;
+
+import com.bobocode.util.Resource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * {@link FileChunkReader} reads a UTF-8 text file piece by piece, so a file of any size is read in constant memory.
+ * A caller pulls either decoded chunks with {@link FileChunkReader#nextChunk()} or lines with
+ * {@link FileChunkReader#nextLine()}, and the reader reads the file only as fast as the caller asks for more.
+ * <p>
+ * The reader reuses its buffers, so it does not allocate memory per chunk or per line. A returned chunk or line is
+ * valid only until the next call, copy it with {@link Object#toString()} to keep it. Lines are split the same way as
+ * {@link java.nio.file.Files#lines(Path)} does.
+ * <p>
+ * The reader holds an open file, so it must be closed. It is not thread-safe.
+ */
+public class FileChunkReader implements Closeable {
+    static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+    private static final int MIN_CHUNK_SIZE = 16;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer bytes;
+    private final CharBuffer chars;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+    private final StringBuilder line = new StringBuilder();
+    private boolean endOfInput;
+    private boolean skipLineFeed;
+    private boolean chunkReturned;
+
+    /**
+     * Opens a file for reading in chunks of up to chunkSize chars.
+     *
+     * @param filePath  a path of a text file
+     * @param chunkSize - a size of the byte and char buffers
+     * @throws IllegalArgumentException – if chunkSize is less than 16
+     * @throws FileReaderException      if the file cannot be opened
+     */
+    public FileChunkReader(Path filePath, int chunkSize) {
+        this(checkChunkSize(chunkSize), () -> FileChannel.open(filePath, StandardOpenOption.READ));
+    }
+
+    /**
+     * Opens a file for reading in chunks of up to 64K chars.
+     *
+     * @param filePath a path of a text file
+     * @throws FileReaderException if the file cannot be opened
+     */
+    public FileChunkReader(Path filePath) {
+        this(filePath, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Opens a resource for reading in chunks of up to chunkSize chars. A file is read through a {@link FileChannel},
+     * an entry of a jar is read as a stream without extracting it.
+     *
+     * @param resource  a text file or a jar entry
+     * @param chunkSize - a size of the byte and char buffers
+     * @throws IllegalArgumentException – if chunkSize is less than 16
+     * @throws FileReaderException      if the resource cannot be opened
+     */
+    public FileChunkReader(Resource resource, int chunkSize) {
+        this(checkChunkSize(chunkSize), () -> resource.getPath().isPresent()
+                ? FileChannel.open(resource.getPath().get(), StandardOpenOption.READ)
+                : Channels.newChannel(resource.openStream()));
+    }
+
+    /**
+     * Opens a resource for reading in chunks of up to 64K chars.
+     *
+     * @param resource a text file or a jar entry
+     * @throws FileReaderException if the resource cannot be opened
+     */
+    public FileChunkReader(Resource resource) {
+        this(resource, DEFAULT_CHUNK_SIZE);
+    }
+
+    private FileChunkReader(int chunkSize, ChannelOpener opener) {
+        try {
+            channel = opener.open();
+        } catch (IOException e) {
+            throw new FileReaderException("Cannot open the file!", e);
+        }
+        bytes = ByteBuffer.allocateDirect(chunkSize);
+        chars = CharBuffer.allocate(chunkSize);
+        chars.flip();
+    }
+
+    private interface ChannelOpener {
+        ReadableByteChannel open() throws IOException;
+    }
+
+    private static int checkChunkSize(int chunkSize) {
+        if (chunkSize < MIN_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be at least " + MIN_CHUNK_SIZE);
+        }
+        return chunkSize;
+    }
+
+    /**
+     * Returns the next decoded piece of the file, including line separators as they are. If a line was read before,
+     * the chunk starts right after that line. The returned buffer is the internal buffer of the reader, it is valid
+     * until the next call of {@link FileChunkReader#nextChunk()} or {@link FileChunkReader#nextLine()}, and is treated
+     * as fully read by then.
+     *
+     * @return a buffer with the next chars of the file, or null if the whole file is read
+     * @throws FileReaderException if the file cannot be read or is not a valid UTF-8 text
+     */
+    public CharBuffer nextChunk() {
+        releaseChunk();
+        if (!chars.hasRemaining() && !fill()) {
+            return null;
+        }
+        if (skipLineFeed) {
+            skipLineFeed = false;
+            if (chars.get(chars.position()) == '\n') {
+                chars.get();
+                if (!chars.hasRemaining() && !fill()) {
+                    return null;
+                }
+            }
+        }
+        chunkReturned = true;
+        return chars;
+    }
+
+    private void releaseChunk() {
+        if (chunkReturned) {
+            chunkReturned = false;
+            chars.position(chars.limit());
+        }
+    }
+
+    /**
+     * Returns the next line of the file without its line separator. A line ends with "\n", "\r\n" or "\r". The
+     * returned char sequence is reused by the reader, it is valid until the next call of
+     * {@link FileChunkReader#nextChunk()} or {@link FileChunkReader#nextLine()}.
+     *
+     * @return the next line of the file, or null if the whole file is read
+     * @throws FileReaderException if the file cannot be read or is not a valid UTF-8 text
+     */
+    public CharSequence nextLine() {
+        releaseChunk();
+        line.setLength(0);
+        char[] array = chars.array();
+        while (chars.hasRemaining() || fill()) {
+            int start = chars.position();
+            if (skipLineFeed) {
+                skipLineFeed = false;
+                if (array[start] == '\n') {
+                    chars.position(++start);
+                    continue;
+                }
+            }
+            int limit = chars.limit();
+            for (int end = start; end < limit; end++) {
+                char c = array[end];
+                if (c == '\n' || c == '\r') {
+                    line.append(array, start, end - start);
+                    chars.position(end + 1);
+                    skipLineFeed = c == '\r';
+                    return line;
+                }
+            }
+            line.append(array, start, limit - start);
+            chars.position(limit);
+        }
+        return line.length() > 0 ? line : null;
+    }
+
+    /**
+     * Reads and decodes more bytes of the file. Multi-byte chars that are split between two reads stay in the byte
+     * buffer until the rest of their bytes is read.
+     *
+     * @return {@code true} if some chars were decoded, {@code false} if the whole file is read
+     */
+    private boolean fill() {
+        chars.clear();
+        try {
+            while (chars.position() == 0 && !endOfInput) {
+                endOfInput = channel.read(bytes) < 0;
+                bytes.flip();
+                throwIfError(decoder.decode(bytes, chars, endOfInput));
+                if (endOfInput) {
+                    throwIfError(decoder.flush(chars));
+                }
+                bytes.compact();
+            }
+        } catch (CharacterCodingException e) {
+            throw new FileReaderException("File is not a valid UTF-8 text!", e);
+        } catch (IOException e) {
+            throw new FileReaderException("Cannot read the file!", e);
+        } finally {
+            chars.flip();
+        }
+        return chars.hasRemaining();
+    }
+
+    private static void throwIfError(CoderResult result) throws CharacterCodingException {
+        if (result.isError()) {
+            result.throwException();
+        }
+    }
+
+    /**
+     * Closes the file.
+     *
+     * @throws FileReaderException if the file cannot be closed
+     */
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new FileReaderException("Cannot close the file!", e);
+        }
+    }
+}
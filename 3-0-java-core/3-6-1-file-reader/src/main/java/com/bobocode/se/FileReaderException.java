@@ -1,6 +1,10 @@
 package com.bobocode.se;
 
 public class FileReaderException extends RuntimeException {
+    public FileReaderException(String message) {
+        super(message);
+    }
+
     public FileReaderException(String message, Exception e) {
         super(message, e);
     }
@@ -1,21 +1,51 @@
 package com.bobocode.se;
 
+import com.bobocode.util.Resource;
+import com.bobocode.util.ResourceResolver;
+
 import java.io.IOException;
-import java.net.URISyntaxException;
-import java.net.URL;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.joining;
 
 /**
  * {@link FileReaders} provides an API that allow to read whole file into a {@link String} by file name.
+ * <p>
+ * {@link FileReaders#mapWholeFile(String)} reads big files without building a {@link String} for every line. It maps
+ * the file into memory and decodes it once into a {@link CharSequence}. Files that do not fit into memory are read
+ * piece by piece with a {@link FileChunkReader} returned by {@link FileReaders#openChunkReader(String)}.
+ * <p>
+ * {@link FileReaders#readAll(Collection)} reads many files at once, so reads of different files overlap instead of
+ * waiting for each other.
+ * <p>
+ * A file name is either an absolute path or a name of a classpath resource, which may be packed into a jar. Recently
+ * used classpath resources are cached by {@link ResourceResolver}, absolute paths are checked on every call.
  */
 public class FileReaders {
+    static final int DEFAULT_CONCURRENCY = 32;
+    private static final ResourceResolver RESOURCES = new ResourceResolver(FileReaders.class.getClassLoader());
 
     /**
      * Returns a {@link String} that contains whole text from the file specified by name.
@@ -24,25 +54,275 @@ public class FileReaders {
      * @return string that holds whole file content
      */
     public static String readWholeFile(String fileName) {
-        Path filePath = createPathFromFileName(fileName);
-        try (Stream<String> fileLinesStream = openFileLinesStream(filePath)) {
+        Resource resource = findResource(fileName);
+        try (Stream<String> fileLinesStream = openFileLinesStream(resource)) {
             return fileLinesStream.collect(joining("\n"));
         }
     }
 
-    private static Path createPathFromFileName(String fileName) {
-        Objects.requireNonNull(fileName);
-        URL fileUrl = FileReaders.class.getClassLoader().getResource(fileName);
+    /**
+     * Returns a {@link CharSequence} that contains whole text from the file specified by name. The text is the same as
+     * the one returned by {@link FileReaders#readWholeFile(String)}, but the file is memory-mapped with
+     * {@link FileChannel#map(FileChannel.MapMode, long, long)} and decoded once into a pre-sized buffer, so the file
+     * content is copied to the heap only once. Line separators are normalized in place. A resource inside a jar
+     * cannot be mapped, so its bytes are read into the heap first.
+     * <p>
+     * The result is a read-only {@link CharBuffer}. Call {@link Object#toString()} on it if a {@link String} is
+     * needed, which makes one more copy.
+     *
+     * @param fileName a name of a text file
+     * @return char sequence that holds whole file content
+     * @throws FileReaderException if the file cannot be read, is not valid UTF-8 or is bigger than 2 GB
+     */
+    public static CharSequence mapWholeFile(String fileName) {
+        Resource resource = findResource(fileName);
         try {
-            return Paths.get(fileUrl.toURI());
-        } catch (URISyntaxException e) {
-            throw new FileReaderException("Invalid file URL", e);
+            ByteBuffer bytes = resource.getPath().isPresent() ? mapFile(resource.getPath().get()) : readBytes(resource);
+            CharBuffer text = decode(bytes, bytes.remaining());
+            return joinLines(text.array(), text.position()).asReadOnlyBuffer();
+        } catch (CharacterCodingException e) {
+            throw new FileReaderException("File is not a valid UTF-8 text!", e);
+        } catch (IOException e) {
+            throw new FileReaderException("Cannot map the file!", e);
+        }
+    }
+
+    private static ByteBuffer mapFile(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new FileReaderException("File is too big to be mapped: " + filePath);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+        }
+    }
+
+    private static ByteBuffer readBytes(Resource resource) throws IOException {
+        try (InputStream stream = resource.openStream()) {
+            return ByteBuffer.wrap(stream.readAllBytes());
+        }
+    }
+
+    /**
+     * Decodes UTF-8 bytes into a buffer of the byte count length, since UTF-8 never needs more chars than bytes.
+     */
+    private static CharBuffer decode(ByteBuffer bytes, int length) throws CharacterCodingException {
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        CharBuffer chars = CharBuffer.allocate(length);
+        throwIfError(decoder.decode(bytes, chars, true));
+        throwIfError(decoder.flush(chars));
+        return chars;
+    }
+
+    private static void throwIfError(CoderResult result) throws CharacterCodingException {
+        if (result.isError()) {
+            result.throwException();
+        }
+    }
+
+    /**
+     * Replaces "\r\n" and "\r" line separators with "\n" and drops a trailing one, the same way as joining
+     * {@link Files#lines(Path)} does.
+     */
+    private static CharBuffer joinLines(char[] chars, int length) {
+        int written = 0;
+        for (int i = 0; i < length; i++) {
+            char c = chars[i];
+            if (c == '\r') {
+                if (i + 1 < length && chars[i + 1] == '\n') {
+                    i++;
+                }
+                c = '\n';
+            }
+            chars[written++] = c;
+        }
+        if (written > 0 && chars[written - 1] == '\n') {
+            written--;
+        }
+        return CharBuffer.wrap(chars, 0, written);
+    }
+
+    /**
+     * Reads files specified by names concurrently, up to 32 files at a time. See
+     * {@link FileReaders#readAll(Collection, int)}.
+     *
+     * @param fileNames names of text files
+     * @return a map of file names to futures of their contents, in the order of the names
+     */
+    public static Map<String, CompletableFuture<String>> readAll(Collection<String> fileNames) {
+        return readAll(fileNames, DEFAULT_CONCURRENCY);
+    }
+
+    /**
+     * Reads files specified by names concurrently, so reads of different files overlap. Every file content is the
+     * same as the one returned by {@link FileReaders#readWholeFile(String)}. Files are read with
+     * {@link AsynchronousFileChannel}, so no thread waits for the disk while a read is in progress. A resource inside
+     * a jar cannot be opened as a channel, so its bytes are read on the common fork-join pool.
+     * <p>
+     * At most maxConcurrency files are open at a time. The method returns once the last file read is started, so the
+     * caller thread waits while the limit is reached. A file that cannot be found or read fails only its own future
+     * with a {@link FileReaderException}. If the caller thread is interrupted, files that are not started yet are
+     * cancelled.
+     *
+     * @param fileNames      names of text files
+     * @param maxConcurrency a maximum number of files that are read at the same time
+     * @return a map of file names to futures of their contents, in the order of the names
+     * @throws IllegalArgumentException if maxConcurrency is less than 1
+     */
+    public static Map<String, CompletableFuture<String>> readAll(Collection<String> fileNames, int maxConcurrency) {
+        return readAll(fileNames, maxConcurrency, FileReaders::readAsync);
+    }
+
+    /**
+     * Passes every file name to the reader, but starts no more than maxConcurrency reads at a time. A read is finished
+     * once its future is completed.
+     */
+    static Map<String, CompletableFuture<String>> readAll(Collection<String> fileNames, int maxConcurrency,
+                                                          BiConsumer<String, CompletableFuture<String>> reader) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be positive");
+        }
+        Map<String, CompletableFuture<String>> results = new LinkedHashMap<>();
+        for (String fileName : fileNames) {
+            results.putIfAbsent(Objects.requireNonNull(fileName), new CompletableFuture<>());
         }
+        Semaphore permits = new Semaphore(maxConcurrency);
+        for (Map.Entry<String, CompletableFuture<String>> entry : results.entrySet()) {
+            CompletableFuture<String> result = entry.getValue();
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.cancel(false);
+                continue;
+            }
+            result.whenComplete((text, e) -> permits.release());
+            reader.accept(entry.getKey(), result);
+        }
+        return Collections.unmodifiableMap(results);
+    }
+
+    private static void readAsync(String fileName, CompletableFuture<String> result) {
+        try {
+            Resource resource = findResource(fileName);
+            if (resource.getPath().isPresent()) {
+                readChannel(resource.getPath().get(), result);
+            } else {
+                CompletableFuture.runAsync(() -> completeWithText(result, () -> readBytes(resource)));
+            }
+        } catch (IOException e) {
+            result.completeExceptionally(new FileReaderException("Cannot read the file!", e));
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static void readChannel(Path filePath, CompletableFuture<String> result) throws IOException {
+        AsynchronousFileChannel channel = AsynchronousFileChannel.open(filePath, StandardOpenOption.READ);
+        try {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new FileReaderException("File is too big to be read: " + filePath);
+            }
+            new ReadHandler(channel, result).completed(0, ByteBuffer.allocate((int) fileSize));
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    /**
+     * Reads a file into a buffer of the file size, since one read may return fewer bytes than requested, and
+     * completes the result once the buffer is full or the file ends.
+     */
+    private static class ReadHandler implements CompletionHandler<Integer, ByteBuffer> {
+        private final AsynchronousFileChannel channel;
+        private final CompletableFuture<String> result;
+
+        private ReadHandler(AsynchronousFileChannel channel, CompletableFuture<String> result) {
+            this.channel = channel;
+            this.result = result;
+        }
+
+        @Override
+        public void completed(Integer count, ByteBuffer bytes) {
+            if (count >= 0 && bytes.hasRemaining()) {
+                channel.read(bytes, bytes.position(), bytes, this);
+                return;
+            }
+            closeQuietly(channel);
+            completeWithText(result, bytes::flip);
+        }
+
+        @Override
+        public void failed(Throwable e, ByteBuffer bytes) {
+            closeQuietly(channel);
+            result.completeExceptionally(e instanceof Exception
+                    ? new FileReaderException("Cannot read the file!", (Exception) e)
+                    : e);
+        }
+    }
+
+    private interface BytesSupplier {
+        ByteBuffer get() throws IOException;
+    }
+
+    private static void completeWithText(CompletableFuture<String> result, BytesSupplier bytesSupplier) {
+        try {
+            ByteBuffer bytes = bytesSupplier.get();
+            CharBuffer text = decode(bytes, bytes.remaining());
+            result.complete(joinLines(text.array(), text.position()).toString());
+        } catch (CharacterCodingException e) {
+            result.completeExceptionally(new FileReaderException("File is not a valid UTF-8 text!", e));
+        } catch (IOException e) {
+            result.completeExceptionally(new FileReaderException("Cannot read the file!", e));
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static void closeQuietly(AsynchronousFileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Opens a {@link FileChunkReader} that reads the file specified by name in chunks or lines, reusing its buffers.
+     * The reader must be closed.
+     *
+     * @param fileName a name of a text file
+     * @return a reader of the file
+     */
+    public static FileChunkReader openChunkReader(String fileName) {
+        return new FileChunkReader(findResource(fileName));
+    }
+
+    /**
+     * Opens a {@link FileChunkReader} that reads the file specified by name in chunks of up to chunkSize chars.
+     * The reader must be closed.
+     *
+     * @param fileName  a name of a text file
+     * @param chunkSize a size of the reader buffers
+     * @return a reader of the file
+     * @throws IllegalArgumentException if chunkSize is less than 16
+     */
+    public static FileChunkReader openChunkReader(String fileName, int chunkSize) {
+        return new FileChunkReader(findResource(fileName), chunkSize);
+    }
+
+    private static Resource findResource(String fileName) {
+        Objects.requireNonNull(fileName);
+        return RESOURCES.find(fileName)
+                .orElseThrow(() -> new FileReaderException("File not found: " + fileName));
     }
 
-    private static Stream<String> openFileLinesStream(Path filePath) {
+    private static Stream<String> openFileLinesStream(Resource resource) {
         try {
-            return Files.lines(filePath);
+            return resource.lines();
         } catch (IOException e) {
             throw new FileReaderException("Cannot create stream of file lines!", e);
         }
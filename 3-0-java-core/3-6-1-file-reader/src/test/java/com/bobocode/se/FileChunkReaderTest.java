@@ -0,0 +1,81 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FileChunkReaderTest {
+
+    @Test
+    void testNextLineOnEmptyFile() {
+        try (FileChunkReader reader = FileReaders.openChunkReader("empty.txt")) {
+            assertNull(reader.nextLine());
+        }
+    }
+
+    @Test
+    void testNextChunkOnEmptyFile() {
+        try (FileChunkReader reader = FileReaders.openChunkReader("empty.txt")) {
+            assertNull(reader.nextChunk());
+        }
+    }
+
+    @Test
+    void testNextLineOnFileWithEmptyLines() {
+        assertEquals(List.of("Hey!", "", "What's up?", "", "Hi!"), readLines("lines.txt", 16));
+    }
+
+    @Test
+    void testNextLineMatchesReadWholeFile() {
+        for (String fileName : List.of("simple.txt", "crlf.txt", "trailing-newline.txt", "unicode.txt",
+                "long-lines.txt")) {
+            for (int chunkSize : new int[]{16, 17, 64, 4096}) {
+                assertEquals(FileReaders.readWholeFile(fileName), String.join("\n", readLines(fileName, chunkSize)),
+                        fileName + " in chunks of " + chunkSize);
+            }
+        }
+    }
+
+    @Test
+    void testNextChunkReturnsWholeFile() {
+        StringBuilder content = new StringBuilder();
+        try (FileChunkReader reader = FileReaders.openChunkReader("long-lines.txt", 16)) {
+            for (CharBuffer chunk = reader.nextChunk(); chunk != null; chunk = reader.nextChunk()) {
+                content.append(chunk);
+            }
+        }
+
+        assertEquals(FileReaders.readWholeFile("long-lines.txt"), content.toString().replaceAll("\r\n?", "\n"));
+    }
+
+    @Test
+    void testNextChunkContinuesAfterLine() {
+        try (FileChunkReader reader = FileReaders.openChunkReader("crlf.txt")) {
+            assertEquals("Hello!", reader.nextLine().toString());
+            assertEquals("It's a\rtest file.\r\n\r\n", reader.nextChunk().toString());
+            assertNull(reader.nextChunk());
+            assertNull(reader.nextLine());
+        }
+    }
+
+    @Test
+    void testChunkSizeTooSmall() {
+        assertThrows(IllegalArgumentException.class, () -> FileReaders.openChunkReader("simple.txt", 8));
+    }
+
+    private List<String> readLines(String fileName, int chunkSize) {
+        List<String> lines = new ArrayList<>();
+        try (FileChunkReader reader = FileReaders.openChunkReader(fileName, chunkSize)) {
+            for (CharSequence line = reader.nextLine(); line != null; line = reader.nextLine()) {
+                lines.add(line.toString());
+            }
+        }
+        return lines;
+    }
+}
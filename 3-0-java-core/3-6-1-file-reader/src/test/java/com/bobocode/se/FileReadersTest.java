@@ -1,11 +1,29 @@
 package com.bobocode.se;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class FileReadersTest {
 
+    @TempDir
+    Path tempDir;
+
     @Test
     void testReadWholeFileOnEmptyFile() {
         String fileContent = FileReaders.readWholeFile("empty.txt");
@@ -31,4 +49,139 @@ public class FileReadersTest {
 
         assertEquals("Hello!\n" + "It's a test file.", fileContent);
     }
+
+    @Test
+    void testMapWholeFileOnEmptyFile() {
+        CharSequence fileContent = FileReaders.mapWholeFile("empty.txt");
+
+        assertEquals("", fileContent.toString());
+    }
+
+    @Test
+    void testMapWholeFileOnFileWithEmptyLines() {
+        CharSequence fileContent = FileReaders.mapWholeFile("lines.txt");
+
+        assertEquals(FileReaders.readWholeFile("lines.txt"), fileContent.toString());
+    }
+
+    @Test
+    void testMapWholeFile() {
+        CharSequence fileContent = FileReaders.mapWholeFile("simple.txt");
+
+        assertEquals("Hello!\n" + "It's a test file.", fileContent.toString());
+    }
+
+    @Test
+    void testMapWholeFileNormalizesLineSeparators() {
+        CharSequence fileContent = FileReaders.mapWholeFile("crlf.txt");
+
+        assertEquals(FileReaders.readWholeFile("crlf.txt"), fileContent.toString());
+    }
+
+    @Test
+    void testMapWholeFileDropsTrailingLineSeparator() {
+        CharSequence fileContent = FileReaders.mapWholeFile("trailing-newline.txt");
+
+        assertEquals(FileReaders.readWholeFile("trailing-newline.txt"), fileContent.toString());
+    }
+
+    @Test
+    void testMapWholeFileDecodesMultiByteCharacters() {
+        CharSequence fileContent = FileReaders.mapWholeFile("unicode.txt");
+
+        assertEquals(FileReaders.readWholeFile("unicode.txt"), fileContent.toString());
+        assertEquals(25, fileContent.length());
+    }
+
+    @Test
+    void testReadWholeFileByAbsolutePath() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("absolute.txt"), "Hello!\nIt's an absolute path.\n");
+
+        assertEquals("Hello!\nIt's an absolute path.", FileReaders.readWholeFile(file.toString()));
+        assertEquals("Hello!\nIt's an absolute path.", FileReaders.mapWholeFile(file.toString()).toString());
+    }
+
+    @Test
+    void testReadWholeFileOnMissingFile() {
+        assertThrows(FileReaderException.class, () -> FileReaders.readWholeFile("missing.txt"));
+    }
+
+    @Test
+    void testReadAll() {
+        List<String> fileNames = List.of("simple.txt", "empty.txt", "lines.txt", "crlf.txt", "unicode.txt");
+
+        Map<String, CompletableFuture<String>> fileContents = FileReaders.readAll(fileNames);
+
+        assertEquals(fileNames, new ArrayList<>(fileContents.keySet()));
+        for (String fileName : fileNames) {
+            assertEquals(FileReaders.readWholeFile(fileName), fileContents.get(fileName).join());
+        }
+    }
+
+    @Test
+    void testReadAllWithConcurrencyLimit() throws IOException {
+        List<String> fileNames = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Path file = Files.writeString(tempDir.resolve(i + ".txt"), "File\r\nnumber " + i + "\n");
+            fileNames.add(file.toString());
+        }
+
+        Map<String, CompletableFuture<String>> fileContents = FileReaders.readAll(fileNames, 3);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("File\nnumber " + i, fileContents.get(fileNames.get(i)).join());
+        }
+    }
+
+    @Test
+    void testReadAllKeepsConcurrencyLimit() throws InterruptedException {
+        List<String> fileNames = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            fileNames.add(i + ".txt");
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Map<String, CompletableFuture<String>> fileContents = FileReaders.readAll(fileNames, 3,
+                    (fileName, result) -> {
+                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        executor.execute(() -> {
+                            sleepQuietly(5);
+                            inFlight.decrementAndGet();
+                            result.complete(fileName);
+                        });
+                    });
+
+            for (String fileName : fileNames) {
+                assertEquals(fileName, fileContents.get(fileName).join());
+            }
+            assertEquals(3, maxInFlight.get());
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void testReadAllOnMissingFile() {
+        Map<String, CompletableFuture<String>> fileContents = FileReaders.readAll(List.of("missing.txt", "simple.txt"));
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> fileContents.get("missing.txt").get());
+        assertEquals(FileReaderException.class, e.getCause().getClass());
+        assertEquals("Hello!\n" + "It's a test file.", fileContents.get("simple.txt").join());
+    }
+
+    @Test
+    void testReadAllOnNonPositiveConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> FileReaders.readAll(List.of("simple.txt"), 0));
+    }
 }
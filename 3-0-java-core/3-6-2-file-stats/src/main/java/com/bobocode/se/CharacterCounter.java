@@ -0,0 +1,123 @@
+package com.bobocode.se;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link CharacterCounter} builds a histogram of chars of a UTF-8 text. It reads raw bytes through a direct
+ * {@link ByteBuffer} and counts every char into a {@code long[65536]} indexed by the char itself, so counting does not
+ * allocate memory per char. ASCII bytes are counted as they are, only runs of non-ASCII bytes go through a
+ * {@link CharsetDecoder}, which decodes into a reused {@link CharBuffer}.
+ * <p>
+ * Chars are counted the same way as {@link String#chars()} does, so a char outside the Basic Multilingual Plane is
+ * counted as two surrogate chars. A counter reuses its buffers, so it is not thread-safe.
+ */
+class CharacterCounter {
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final int MIN_BUFFER_SIZE = 16;
+
+    private final ByteBuffer bytes;
+    private final CharBuffer chars;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPORT)
+            .onUnmappableCharacter(CodingErrorAction.REPORT);
+
+    /**
+     * Creates a counter with byte and char buffers of bufferSize.
+     *
+     * @param bufferSize - a size of the byte and char buffers
+     * @throws IllegalArgumentException – if bufferSize is less than 16
+     */
+    CharacterCounter(int bufferSize) {
+        if (bufferSize < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("Buffer size must be at least " + MIN_BUFFER_SIZE);
+        }
+        bytes = ByteBuffer.allocateDirect(bufferSize);
+        chars = CharBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Creates a counter with 64K byte and char buffers.
+     */
+    CharacterCounter() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Reads the channel to its end and counts its chars. The channel is not closed.
+     *
+     * @param channel a channel of UTF-8 text
+     * @return an array of 65536 counts, where an index is a char
+     * @throws CharacterCodingException if the text is not valid UTF-8
+     * @throws IOException              if the channel cannot be read
+     */
+    long[] count(ReadableByteChannel channel) throws IOException {
+        long[] counts = new long[Character.MAX_VALUE + 1];
+        bytes.clear();
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            endOfInput = channel.read(bytes) < 0;
+            bytes.flip();
+            countBytes(counts, endOfInput);
+            bytes.compact();
+        }
+        return counts;
+    }
+
+    /**
+     * Counts ASCII runs of the byte buffer directly and decodes the runs in between. A multi-byte char that is split
+     * between two reads stays in the buffer until the rest of its bytes is read.
+     */
+    private void countBytes(long[] counts, boolean endOfInput) throws CharacterCodingException {
+        int limit = bytes.limit();
+        int pos = bytes.position();
+        while (pos < limit) {
+            byte b = bytes.get(pos);
+            if (b >= 0) {
+                counts[b]++;
+                pos++;
+                continue;
+            }
+            int end = pos + 1;
+            while (end < limit && bytes.get(end) < 0) {
+                end++;
+            }
+            bytes.position(pos).limit(end);
+            decodeAndCount(counts, endOfInput || end < limit);
+            pos = bytes.position();
+            bytes.limit(limit);
+            if (pos < end) {
+                break;
+            }
+        }
+        bytes.position(pos);
+    }
+
+    /**
+     * Decodes a run of non-ASCII bytes. A run that is followed by an ASCII byte must consist of whole chars, so it is
+     * decoded as the end of input. The run is not longer than the char buffer, and UTF-8 never needs more chars than
+     * bytes, so the chars always fit.
+     */
+    private void decodeAndCount(long[] counts, boolean endOfRun) throws CharacterCodingException {
+        decoder.reset();
+        chars.clear();
+        throwIfError(decoder.decode(bytes, chars, endOfRun));
+        char[] array = chars.array();
+        for (int i = 0; i < chars.position(); i++) {
+            counts[array[i]]++;
+        }
+    }
+
+    private static void throwIfError(CoderResult result) throws CharacterCodingException {
+        if (result.isError()) {
+            result.throwException();
+        }
+    }
+}
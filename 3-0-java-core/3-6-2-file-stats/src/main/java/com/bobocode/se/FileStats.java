@@ -1,26 +1,30 @@
 package com.bobocode.se;
 
+import com.bobocode.util.Resource;
+import com.bobocode.util.ResourceResolver;
+
 import java.io.IOException;
-import java.net.URISyntaxException;
-import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.Map;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.stream.Stream;
-
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.counting;
-import static java.util.stream.Collectors.groupingBy;
 
 /**
  * {@link FileStats} provides an API that allow to get character statistic based on text file. All whitespace characters
  * are ignored.
+ * <p>
+ * Characters are counted by {@link CharacterCounter} into an array indexed by a character, so building the stats does
+ * not allocate memory per character.
+ * <p>
+ * A file name is either an absolute path or a name of a classpath resource, which may be packed into a jar.
  */
 public class FileStats {
+    private static final ResourceResolver RESOURCES = new ResourceResolver(FileStats.class.getClassLoader());
 
-    private final Map<Character, Long> characterCountMap;
+    private final long[] characterCounts;
     private final char mostPopularCharacter;
 
     /**
@@ -34,43 +38,35 @@ public class FileStats {
     }
 
     private FileStats(String fileName) {
-        Path filePath = getFilePath(fileName);
-        characterCountMap = computeCharacterMap(filePath);
-        mostPopularCharacter = findMostPopularCharacter(characterCountMap);
+        Resource resource = findResource(fileName);
+        characterCounts = computeCharacterCounts(resource);
+        mostPopularCharacter = findMostPopularCharacter(characterCounts);
     }
 
-    private Path getFilePath(String fileName) {
+    private Resource findResource(String fileName) {
         Objects.requireNonNull(fileName);
-        URL fileUrl = getFileUrl(fileName);
-        try {
-            return Paths.get(fileUrl.toURI());
-        } catch (URISyntaxException e) {
-            throw new FileStatsException("Wrong file path", e);
-        }
-    }
-
-    private URL getFileUrl(String fileName) {
-        URL fileUrl = getClass().getClassLoader().getResource(fileName);
-        if (fileUrl == null) {
-            throw new FileStatsException("Wrong file path");
-        }
-        return fileUrl;
+        return RESOURCES.find(fileName)
+                .orElseThrow(() -> new FileStatsException("Wrong file path"));
     }
 
-    private Map<Character, Long> computeCharacterMap(Path filePath) {
-        try (Stream<String> lines = Files.lines(filePath)) {
-            return collectCharactersToCountMap(lines);
+    private long[] computeCharacterCounts(Resource resource) {
+        try (ReadableByteChannel channel = openChannel(resource)) {
+            long[] counts = new CharacterCounter().count(channel);
+            counts[' '] = 0; // filter whitespace
+            counts['\n'] = 0; // line separators are not a part of lines
+            counts['\r'] = 0;
+            return counts;
+        } catch (CharacterCodingException e) {
+            throw new FileStatsException("File is not a valid UTF-8 text", e);
         } catch (IOException e) {
             throw new FileStatsException("Cannot read the file", e);
         }
     }
 
-    private Map<Character, Long> collectCharactersToCountMap(Stream<String> linesStream) {
-        return linesStream
-                .flatMapToInt(String::chars)
-                .filter(a -> a != 32) // filter whitespace
-                .mapToObj(c -> (char) c)
-                .collect(groupingBy(identity(), counting()));
+    private ReadableByteChannel openChannel(Resource resource) throws IOException {
+        return resource.getPath().isPresent()
+                ? FileChannel.open(resource.getPath().get(), StandardOpenOption.READ)
+                : Channels.newChannel(resource.openStream());
     }
 
     /**
@@ -80,7 +76,7 @@ public class FileStats {
      * @return a number that shows how many times this character appeared in a text file
      */
     public int getCharCount(char character) {
-        return characterCountMap.get(character).intValue();
+        return (int) characterCounts[character];
     }
 
     /**
@@ -92,12 +88,17 @@ public class FileStats {
         return mostPopularCharacter;
     }
 
-    private char findMostPopularCharacter(Map<Character, Long> characterCountMap) {
-        return characterCountMap.entrySet()
-                .stream()
-                .max(Map.Entry.comparingByValue())
-                .get()
-                .getKey();
+    private char findMostPopularCharacter(long[] characterCounts) {
+        int mostPopular = 0;
+        for (int c = 1; c < characterCounts.length; c++) {
+            if (characterCounts[c] > characterCounts[mostPopular]) {
+                mostPopular = c;
+            }
+        }
+        if (characterCounts[mostPopular] == 0) {
+            throw new NoSuchElementException("File has no characters");
+        }
+        return (char) mostPopular;
     }
 
     /**
@@ -107,6 +108,6 @@ public class FileStats {
      * @return {@code true} if this character has appeared in the text, and {@code false} otherwise
      */
     public boolean containsCharacter(char character) {
-        return characterCountMap.containsKey(character);
+        return characterCounts[character] > 0;
     }
 }
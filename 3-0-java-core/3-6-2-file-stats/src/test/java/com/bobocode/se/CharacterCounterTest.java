@@ -0,0 +1,75 @@
+package com.bobocode.se;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CharacterCounterTest {
+    private static final String TEXT = "Hello, world!\nПривіт, світ!\r\nΓειά σου κόσμε 😀 ok\n";
+
+    @ParameterizedTest
+    @ValueSource(ints = {16, 17, 19, CharacterCounter.DEFAULT_BUFFER_SIZE})
+    void countMatchesStringChars(int bufferSize) throws IOException {
+        String text = TEXT.repeat(20);
+
+        long[] counts = new CharacterCounter(bufferSize).count(channelOf(text.getBytes(StandardCharsets.UTF_8)));
+
+        long[] expected = new long[Character.MAX_VALUE + 1];
+        text.chars().forEach(c -> expected[c]++);
+        assertThat(counts).isEqualTo(expected);
+    }
+
+    @Test
+    void countEmptyChannel() throws IOException {
+        long[] counts = new CharacterCounter().count(channelOf(new byte[0]));
+
+        assertThat(counts).hasSize(65536).containsOnly(0L);
+    }
+
+    @Test
+    void countReusesCounter() throws IOException {
+        CharacterCounter counter = new CharacterCounter(16);
+        counter.count(channelOf("Привіт".getBytes(StandardCharsets.UTF_8)));
+
+        long[] counts = counter.count(channelOf("ab".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(counts['a']).isEqualTo(1);
+        assertThat(counts['b']).isEqualTo(1);
+        assertThat(counts['П']).isZero();
+    }
+
+    @Test
+    void countThrowsExceptionOnMalformedInput() {
+        byte[] bytes = {'a', (byte) 0xD0, 'b'};
+
+        assertThatThrownBy(() -> new CharacterCounter().count(channelOf(bytes)))
+                .isInstanceOf(CharacterCodingException.class);
+    }
+
+    @Test
+    void countThrowsExceptionOnTruncatedInput() {
+        byte[] bytes = {'a', (byte) 0xE2, (byte) 0x82};
+
+        assertThatThrownBy(() -> new CharacterCounter().count(channelOf(bytes)))
+                .isInstanceOf(CharacterCodingException.class);
+    }
+
+    @Test
+    void createCounterWithTooSmallBuffer() {
+        assertThatThrownBy(() -> new CharacterCounter(15)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ReadableByteChannel channelOf(byte[] bytes) {
+        return Channels.newChannel(new ByteArrayInputStream(bytes));
+    }
+}
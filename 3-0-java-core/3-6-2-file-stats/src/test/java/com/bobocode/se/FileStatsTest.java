@@ -66,4 +66,13 @@ public class FileStatsTest {
         assertThat(springArticleContainsExistingCharacter).isTrue();
         assertThat(springArticleContainsWhitespace).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @Order(6)
+    void getCharCountOfMissingCharacter() {
+        FileStats springCloudArticleFileStats = FileStats.from("scosb.txt");
+
+        assertThat(springCloudArticleFileStats.getCharCount('\n')).isZero();
+        assertThat(springCloudArticleFileStats.getCharCount('Ж')).isZero();
+    }
+}
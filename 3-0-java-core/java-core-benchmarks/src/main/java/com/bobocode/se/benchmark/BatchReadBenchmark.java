@@ -0,0 +1,87 @@
+package com.bobocode.se.benchmark;
+
+import com.bobocode.se.FileReaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares reading a batch of small files one after another with {@link FileReaders#readWholeFile(String)} and
+ * concurrently with {@link FileReaders#readAll(java.util.Collection, int)}. Files are read by absolute paths from a
+ * temporary directory, so after the first iteration they are usually served from the OS page cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchReadBenchmark {
+    @Param({"1000"})
+    private int fileCount;
+
+    @Param({"4096"})
+    private int fileSize;
+
+    private Path tempDir;
+    private List<String> fileNames;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("batch");
+        String line = "It's a line of a benchmark file.\n";
+        String content = line.repeat(fileSize / line.length());
+        fileNames = new ArrayList<>(fileCount);
+        for (int i = 0; i < fileCount; i++) {
+            fileNames.add(Files.writeString(tempDir.resolve(i + ".txt"), content).toString());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public void sequential(Blackhole blackhole) {
+        for (String fileName : fileNames) {
+            blackhole.consume(FileReaders.readWholeFile(fileName));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Concurrency {
+        @Param({"1", "8", "32"})
+        private int limit;
+    }
+
+    @Benchmark
+    public void readAll(Concurrency concurrency, Blackhole blackhole) {
+        for (CompletableFuture<String> fileContent : FileReaders.readAll(fileNames, concurrency.limit).values()) {
+            blackhole.consume(fileContent.join());
+        }
+    }
+}
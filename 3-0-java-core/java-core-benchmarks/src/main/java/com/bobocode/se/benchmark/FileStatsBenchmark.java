@@ -0,0 +1,88 @@
+package com.bobocode.se.benchmark;
+
+import com.bobocode.se.FileStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
+/**
+ * Compares {@link FileStats#from(String)}, which counts chars into a primitive array, with the former stream pipeline
+ * that boxes every char and groups chars into a {@code Map<Character, Long>}. The file is either plain ASCII text or
+ * text with every other line in Cyrillic, which goes through the UTF-8 decoder.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class FileStatsBenchmark {
+    private static final String ASCII_LINE = "Lambda expressions let you express instances of single-method classes.";
+    private static final String CYRILLIC_LINE = "Лямбда-вирази дозволяють стисло описати екземпляри класів з одним методом.";
+
+    @Param({"16", "128"})
+    private int sizeMb;
+
+    @Param({"ascii", "mixed"})
+    private String content;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Files.createTempFile("stats", ".txt");
+        long size = sizeMb * 1024L * 1024L;
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (long written = 0, line = 0; written < size; line++) {
+                String text = "mixed".equals(content) && line % 2 == 1 ? CYRILLIC_LINE : ASCII_LINE;
+                writer.write(text);
+                writer.newLine();
+                written += text.getBytes(StandardCharsets.UTF_8).length + 1;
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(file);
+    }
+
+    @Benchmark
+    public char characterCounter() {
+        return FileStats.from(file.toString()).getMostPopularCharacter();
+    }
+
+    @Benchmark
+    public Map<Character, Long> groupingByStream() throws IOException {
+        try (Stream<String> lines = Files.lines(file)) {
+            return lines
+                    .flatMapToInt(String::chars)
+                    .filter(a -> a != 32)
+                    .mapToObj(c -> (char) c)
+                    .collect(groupingBy(identity(), counting()));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.bobocode.se.benchmark;
+
+import com.bobocode.util.Resource;
+import com.bobocode.util.ResourceResolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Compares repeated lookups and opens of the same small resource through {@link ClassLoader#getResource(String)} and
+ * through {@link ResourceResolver}, which caches resolved classpath resources. The resource is either a file in a classpath
+ * directory or an entry of a classpath jar.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceLookupBenchmark {
+    private static final String RESOURCE_NAME = "com/bobocode/benchmark/resource.txt";
+    private static final byte[] CONTENT = "Hello!\nIt's a benchmark file.".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"directory", "jar"})
+    private String location;
+
+    private Path tempDir;
+    private URLClassLoader classLoader;
+    private ResourceResolver resolver;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tempDir = Files.createTempDirectory("resources");
+        Path classpathRoot = "jar".equals(location) ? createJar(tempDir.resolve("resources.jar")) : createDirectory();
+        classLoader = new URLClassLoader(new URL[]{classpathRoot.toUri().toURL()}, null);
+        resolver = new ResourceResolver(classLoader);
+    }
+
+    private Path createDirectory() throws IOException {
+        Path file = tempDir.resolve(RESOURCE_NAME);
+        Files.createDirectories(file.getParent());
+        Files.write(file, CONTENT);
+        return tempDir;
+    }
+
+    private static Path createJar(Path jar) throws IOException {
+        try (JarOutputStream jarStream = new JarOutputStream(Files.newOutputStream(jar))) {
+            jarStream.putNextEntry(new JarEntry(RESOURCE_NAME));
+            jarStream.write(CONTENT);
+            jarStream.closeEntry();
+        }
+        return jar;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        classLoader.close();
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public URL classLoaderLookup() {
+        return classLoader.getResource(RESOURCE_NAME);
+    }
+
+    @Benchmark
+    public Resource resolverLookup() {
+        return resolver.find(RESOURCE_NAME).orElseThrow();
+    }
+
+    @Benchmark
+    public byte[] classLoaderOpenAndRead() throws IOException {
+        try (InputStream stream = classLoader.getResource(RESOURCE_NAME).openStream()) {
+            return stream.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public byte[] resolverOpenAndRead() throws IOException {
+        try (InputStream stream = resolver.find(RESOURCE_NAME).orElseThrow().openStream()) {
+            return stream.readAllBytes();
+        }
+    }
+}
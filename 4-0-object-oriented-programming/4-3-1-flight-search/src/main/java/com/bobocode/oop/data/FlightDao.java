@@ -1,37 +1,41 @@
 package com.bobocode.oop.data;
 
+import com.bobocode.cs.OpenHashSet;
 import com.bobocode.oop.service.Flights;
 
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.Objects;
 import java.util.Set;
 
 /**
  * {@link FlightDao} represents a Data Access Object (DAO) for flights. The implementation is simplified, so it just
- * uses {@link HashSet} to store flight numbers.
+ * uses {@link OpenHashSet} to store flight numbers.
  * <p>
  * todo: 1. Implement a method {@link FlightDao#register(String)} that store new flight number into the set
  * todo: 2. Implement a method {@link FlightDao#findAll()} that returns a set of all flight numbers
  */
 public class FlightDao implements Flights {
-    private Set<String> flights = new HashSet<>();
+    private Set<String> flights = new OpenHashSet<>();
 
     /**
      * Stores a new flight number
      *
      * @param flightNumber a flight number to store
      * @return {@code true} if a flight number was stored, {@code false} otherwise
+     * @throws NullPointerException if the flight number is null, since {@link OpenHashSet} rejects null elements
      */
     public boolean register(String flightNumber) {
+        Objects.requireNonNull(flightNumber, "Flight number must not be null");
         return flights.add(flightNumber);
     }
 
     /**
      * Returns all stored flight numbers
      *
-     * @return a set of flight numbers
+     * @return an unmodifiable view of the set of flight numbers
      */
     public Set<String> findAll() {
-        return flights;
+        return Collections.unmodifiableSet(flights);
     }
 
 }
@@ -0,0 +1,39 @@
+package com.bobocode.oop;
+
+import com.bobocode.oop.data.FlightDao;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightDaoTest {
+
+    private FlightDao flightDao = new FlightDao();
+
+    @Test
+    public void testRegisterNullFlight() {
+        NullPointerException exception = assertThrows(NullPointerException.class, () -> flightDao.register(null));
+
+        assertEquals("Flight number must not be null", exception.getMessage());
+        assertTrue(flightDao.findAll().isEmpty());
+    }
+
+    @Test
+    public void testFindAllReturnsRegisteredFlights() {
+        flightDao.register("PR344");
+        flightDao.register("RB122");
+
+        assertEquals(Set.of("PR344", "RB122"), flightDao.findAll());
+    }
+
+    @Test
+    public void testFindAllIsUnmodifiable() {
+        flightDao.register("PR344");
+        Set<String> flights = flightDao.findAll();
+
+        assertThrows(UnsupportedOperationException.class, () -> flights.add("RB122"));
+        assertThrows(UnsupportedOperationException.class, () -> flights.remove("PR344"));
+        assertEquals(Set.of("PR344"), flightDao.findAll());
+    }
+}
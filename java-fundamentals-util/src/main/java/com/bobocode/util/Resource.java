@@ -0,0 +1,84 @@
+package com.bobocode.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * {@link Resource} is a readable location that was found by {@link ResourceResolver}. It is either a file on the
+ * filesystem or an entry of a jar file on the classpath. A jar entry is read as a stream, so it is never extracted
+ * to a temporary file.
+ */
+public final class Resource {
+    private final String name;
+    private final URL url;
+    private final Path path;
+
+    Resource(String name, URL url, Path path) {
+        this.name = name;
+        this.url = url;
+        this.path = path;
+    }
+
+    /**
+     * Returns a name the resource was resolved by.
+     *
+     * @return the resource name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns a path of the resource if it is a file on the default filesystem.
+     *
+     * @return the file path, or an empty optional if the resource is inside a jar
+     */
+    public Optional<Path> getPath() {
+        return Optional.ofNullable(path);
+    }
+
+    /**
+     * Opens a new stream that reads the resource from the beginning. The stream must be closed.
+     *
+     * @return a stream of the resource bytes
+     * @throws IOException if the resource cannot be opened
+     */
+    public InputStream openStream() throws IOException {
+        return path != null ? Files.newInputStream(path) : url.openStream();
+    }
+
+    /**
+     * Opens a stream of UTF-8 text lines of the resource. A file is read with {@link Files#lines(Path)}, a jar entry
+     * is read with a {@link BufferedReader}, both split lines the same way. The stream must be closed.
+     *
+     * @return a stream of the resource lines
+     * @throws IOException if the resource cannot be opened
+     */
+    public Stream<String> lines() throws IOException {
+        if (path != null) {
+            return Files.lines(path);
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8));
+        return reader.lines().onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return url.toString();
+    }
+}
@@ -0,0 +1,124 @@
+package com.bobocode.util;
+
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * {@link ResourceResolver} finds a {@link Resource} by name. A name is either an absolute path of a file, or a name
+ * of a classpath resource, which may be a file in a directory or an entry of a jar file.
+ * <p>
+ * Resolved classpath resources are cached by name, so a hot resource is looked up in the class loader only once. The
+ * cache holds a limited number of names and evicts the least recently used one when it is full, so a resolver that is
+ * asked for many different names does not grow without bound. Names that were not found are not cached, so a resource
+ * that appears later is found on the next call.
+ * <p>
+ * Absolute paths are never cached. They are cheap to resolve, a batch job may pass thousands of distinct paths, and
+ * a file may be deleted or created at any time, so every call checks the file again. The resolver is thread-safe.
+ */
+public class ResourceResolver {
+    static final int DEFAULT_CACHE_SIZE = 256;
+
+    private final ClassLoader classLoader;
+    private final Map<String, Resource> cache;
+
+    /**
+     * Creates a resolver that looks up classpath resources in provided class loader and caches up to 256 of them.
+     *
+     * @param classLoader a class loader to look up resources
+     */
+    public ResourceResolver(ClassLoader classLoader) {
+        this(classLoader, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a resolver that looks up classpath resources in provided class loader and caches up to cacheSize of
+     * them.
+     *
+     * @param classLoader a class loader to look up resources
+     * @param cacheSize   max number of cached resources
+     * @throws IllegalArgumentException if cacheSize is negative
+     */
+    public ResourceResolver(ClassLoader classLoader, int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative");
+        }
+        this.classLoader = Objects.requireNonNull(classLoader);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Resource> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Finds a resource by an absolute file path or by a classpath resource name.
+     *
+     * @param name an absolute path or a resource name
+     * @return the resource, or an empty optional if there is no such file or resource
+     */
+    public Optional<Resource> find(String name) {
+        Objects.requireNonNull(name);
+        Resource resource;
+        synchronized (cache) {
+            resource = cache.get(name);
+        }
+        if (resource != null) {
+            return Optional.of(resource);
+        }
+        Path absolutePath = toAbsolutePath(name);
+        if (absolutePath != null) {
+            return Optional.ofNullable(Files.isRegularFile(absolutePath) ? fileResource(name, absolutePath) : null);
+        }
+        // resolved outside the lock, so a slow class loader does not block lookups of cached names
+        resource = resolveClasspathResource(name);
+        if (resource != null) {
+            synchronized (cache) {
+                Resource cached = cache.putIfAbsent(name, resource);
+                resource = cached != null ? cached : resource;
+            }
+        }
+        return Optional.ofNullable(resource);
+    }
+
+    private Resource resolveClasspathResource(String name) {
+        URL url = classLoader.getResource(name);
+        if (url == null) {
+            return null;
+        }
+        return new Resource(name, url, "file".equals(url.getProtocol()) ? toPath(url) : null);
+    }
+
+    private static Path toAbsolutePath(String name) {
+        try {
+            Path path = Path.of(name);
+            return path.isAbsolute() ? path : null;
+        } catch (InvalidPathException e) {
+            return null;
+        }
+    }
+
+    private static Resource fileResource(String name, Path path) {
+        try {
+            return new Resource(name, path.toUri().toURL(), path);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid file path: " + name, e);
+        }
+    }
+
+    private static Path toPath(URL url) {
+        try {
+            return Path.of(url.toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid file URL: " + url, e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.bobocode.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceResolverTest {
+
+    private final ResourceResolver resolver = new ResourceResolver(getClass().getClassLoader());
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void findClasspathFile() throws IOException {
+        Resource resource = resolver.find("resource.txt").orElseThrow();
+
+        assertThat(resource.getPath()).isPresent();
+        assertThat(read(resource)).isEqualTo("Hello from the classpath!");
+    }
+
+    @Test
+    void findAbsolutePath() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("absolute.txt"), "Hello from the filesystem!");
+
+        Resource resource = resolver.find(file.toString()).orElseThrow();
+
+        assertThat(resource.getPath()).contains(file);
+        assertThat(read(resource)).isEqualTo("Hello from the filesystem!");
+    }
+
+    @Test
+    void findJarEntry() throws IOException {
+        Path jar = tempDir.resolve("resources.jar");
+        try (JarOutputStream jarStream = new JarOutputStream(Files.newOutputStream(jar))) {
+            jarStream.putNextEntry(new JarEntry("inside/jar.txt"));
+            jarStream.write("Hello from the jar!".getBytes(StandardCharsets.UTF_8));
+            jarStream.closeEntry();
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null)) {
+            Resource resource = new ResourceResolver(classLoader).find("inside/jar.txt").orElseThrow();
+
+            assertThat(resource.getPath()).isEmpty();
+            assertThat(resource.toString()).startsWith("jar:");
+            assertThat(read(resource)).isEqualTo("Hello from the jar!");
+        }
+    }
+
+    @Test
+    void findCachesResolvedResources() {
+        Resource resource = resolver.find("resource.txt").orElseThrow();
+
+        assertThat(resolver.find("resource.txt")).containsSame(resource);
+    }
+
+    @Test
+    void findDoesNotCacheMissingResources() throws IOException {
+        Path file = tempDir.resolve("later.txt");
+        assertThat(resolver.find(file.toString())).isEmpty();
+        assertThat(resolver.find("missing.txt")).isEmpty();
+
+        Files.writeString(file, "Hello!");
+
+        assertThat(resolver.find(file.toString())).isPresent();
+    }
+
+    @Test
+    void findEvictsLeastRecentlyUsedResources() {
+        ResourceResolver smallResolver = new ResourceResolver(getClass().getClassLoader(), 1);
+        Resource resource = smallResolver.find("resource.txt").orElseThrow();
+        assertThat(smallResolver.find("resource.txt")).containsSame(resource);
+
+        smallResolver.find("com/bobocode/util/ResourceResolverTest.class").orElseThrow();
+
+        assertThat(smallResolver.find("resource.txt").orElseThrow()).isNotSameAs(resource);
+    }
+
+    @Test
+    void findDoesNotCacheAbsolutePaths() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("deleted.txt"), "Hello!");
+        assertThat(resolver.find(file.toString())).isPresent();
+
+        Files.delete(file);
+
+        assertThat(resolver.find(file.toString())).isEmpty();
+    }
+
+    private static String read(Resource resource) throws IOException {
+        try (InputStream stream = resource.openStream()) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}